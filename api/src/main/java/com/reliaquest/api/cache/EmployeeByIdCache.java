@@ -0,0 +1,153 @@
+package com.reliaquest.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Bounded (W-TinyLFU) cache of upstream get-by-id lookups. Found employees are kept for {@code ttl}; ids the
+ * upstream answered 404 for are remembered for the shorter {@code negative-ttl} and answered with
+ * {@link EmployeeNotFoundException} without an upstream call. Entries are invalidated on local creates and deletes.
+ * Hit, miss and eviction statistics are published to Micrometer as the {@code employee-by-id} cache.
+ * <p>
+ * A load that was in flight while its id was invalidated must not put its now stale result back. Every invalidation
+ * bumps a generation counter for the id's stripe, and a load stores its result only if the generation it started
+ * under is still current. A write to another id of the same stripe can drop a concurrent load's result too; that
+ * lookup is then simply loaded again next time.
+ */
+@Component
+public class EmployeeByIdCache {
+    private static final String CACHE_NAME = "employee-by-id";
+    private static final int GENERATION_STRIPES = 64;
+
+    private final Cache<UUID, Lookup> lookups;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    @Autowired
+    public EmployeeByIdCache(@Value("${employee.by-id-cache.ttl:PT30S}") Duration ttl,
+                             @Value("${employee.by-id-cache.negative-ttl:PT5S}") Duration negativeTtl,
+                             @Value("${employee.by-id-cache.maximum-size:10000}") long maximumSize,
+                             MeterRegistry meterRegistry) {
+        this(ttl, negativeTtl, maximumSize, meterRegistry, Ticker.systemTicker());
+    }
+
+    public EmployeeByIdCache(Duration ttl,
+                             Duration negativeTtl,
+                             long maximumSize,
+                             MeterRegistry meterRegistry,
+                             Ticker ticker) {
+        this.lookups = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .ticker(ticker)
+                .expireAfter(new LookupExpiry(ttl.toNanos(), negativeTtl.toNanos()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, lookups, CACHE_NAME);
+    }
+
+    public Employee get(UUID id, Function<UUID, Employee> loader) {
+        Lookup cached = lookups.getIfPresent(id);
+        if (cached != null) {
+            return cached.employeeOrThrow(id);
+        }
+        long generation = generation(id);
+        try {
+            Employee employee = loader.apply(id);
+            putIfCurrent(id, generation, Lookup.found(employee));
+            return employee;
+        } catch (EmployeeNotFoundException e) {
+            putIfCurrent(id, generation, Lookup.NOT_FOUND);
+            throw e;
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #get(UUID, Function)}.
+     */
+    public Mono<Employee> getAsync(UUID id, Function<UUID, Mono<Employee>> loader) {
+        return Mono.defer(() -> {
+            Lookup cached = lookups.getIfPresent(id);
+            if (cached != null) {
+                return Mono.fromCallable(() -> cached.employeeOrThrow(id));
+            }
+            long generation = generation(id);
+            return loader.apply(id)
+                    .doOnNext(employee -> putIfCurrent(id, generation, Lookup.found(employee)))
+                    .doOnError(EmployeeNotFoundException.class, e -> putIfCurrent(id, generation, Lookup.NOT_FOUND));
+        });
+    }
+
+    public void invalidate(UUID id) {
+        if (id != null) {
+            generations.incrementAndGet(stripe(id));
+            lookups.invalidate(id);
+        }
+    }
+
+    public CacheStats stats() {
+        return lookups.stats();
+    }
+
+    private long generation(UUID id) {
+        return generations.get(stripe(id));
+    }
+
+    /**
+     * Stores {@code lookup} unless {@code id} was invalidated since {@code generation} was read. The check runs under
+     * the entry's lock, so an invalidation either happens before it and is seen, or after it and removes the entry.
+     */
+    private void putIfCurrent(UUID id, long generation, Lookup lookup) {
+        lookups.asMap().compute(id, (key, current) -> generation(key) == generation ? lookup : current);
+    }
+
+    private static int stripe(UUID id) {
+        return Math.floorMod(id.hashCode(), GENERATION_STRIPES);
+    }
+
+    private record Lookup(Employee employee) {
+        static final Lookup NOT_FOUND = new Lookup(null);
+
+        static Lookup found(Employee employee) {
+            return new Lookup(employee);
+        }
+
+        Employee employeeOrThrow(UUID id) {
+            if (employee == null) {
+                throw new EmployeeNotFoundException("Employee with id " + id + " Not found.");
+            }
+            return employee;
+        }
+    }
+
+    private record LookupExpiry(long ttlNanos, long negativeTtlNanos) implements Expiry<UUID, Lookup> {
+        @Override
+        public long expireAfterCreate(UUID id, Lookup lookup, long currentTime) {
+            return lookup.employee() == null ? negativeTtlNanos : ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID id, Lookup lookup, long currentTime, long currentDuration) {
+            return expireAfterCreate(id, lookup, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(UUID id, Lookup lookup, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Id to employee index, used to translate an id into the name the upstream delete endpoint expects. Immutable once
+ * built: a change returns a new index.
+ */
+class EmployeeIdIndex {
+    private final Map<UUID, Employee> employeesById;
+
+    private EmployeeIdIndex(Map<UUID, Employee> employeesById) {
+        this.employeesById = employeesById;
+    }
+
+    static EmployeeIdIndex of(List<Employee> employees) {
+        Map<UUID, Employee> employeesById = new HashMap<>(Math.max(16, employees.size() * 4 / 3 + 1));
+        for (Employee employee : employees) {
+            if (employee.id() != null) {
+                employeesById.put(employee.id(), employee);
+            }
+        }
+        return new EmployeeIdIndex(employeesById);
+    }
+
+    Optional<Employee> find(UUID id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(employeesById.get(id));
+    }
+
+    EmployeeIdIndex withAdded(Employee employee) {
+        if (employee.id() == null) {
+            return this;
+        }
+        Map<UUID, Employee> updated = new HashMap<>(employeesById);
+        updated.put(employee.id(), employee);
+        return new EmployeeIdIndex(updated);
+    }
+
+    EmployeeIdIndex withRemoved(Employee employee) {
+        if (employee.id() == null || !employeesById.containsKey(employee.id())) {
+            return this;
+        }
+        Map<UUID, Employee> updated = new HashMap<>(employeesById);
+        updated.remove(employee.id());
+        return new EmployeeIdIndex(updated);
+    }
+}
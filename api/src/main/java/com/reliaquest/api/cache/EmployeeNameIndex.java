@@ -0,0 +1,66 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Exact-match name to employees index. The index is immutable once built, and so are its values, so a lookup hands
+ * out the stored list as is without copying; a change returns a new index.
+ */
+class EmployeeNameIndex {
+    private final Map<String, List<Employee>> employeesByName;
+
+    private EmployeeNameIndex(Map<String, List<Employee>> employeesByName) {
+        this.employeesByName = employeesByName;
+    }
+
+    static EmployeeNameIndex of(List<Employee> employees) {
+        Map<String, List<Employee>> employeesByName = new HashMap<>();
+        for (Employee employee : employees) {
+            if (employee.name() != null) {
+                employeesByName.computeIfAbsent(employee.name(), name -> new ArrayList<>()).add(employee);
+            }
+        }
+        employeesByName.replaceAll((name, sameNamed) -> List.copyOf(sameNamed));
+        return new EmployeeNameIndex(employeesByName);
+    }
+
+    List<Employee> find(String name) {
+        if (name == null) {
+            return List.of();
+        }
+        return employeesByName.getOrDefault(name, List.of());
+    }
+
+    EmployeeNameIndex withAdded(Employee employee) {
+        if (employee.name() == null) {
+            return this;
+        }
+        Map<String, List<Employee>> updatedByName = new HashMap<>(employeesByName);
+        updatedByName.compute(employee.name(), (name, sameNamed) -> {
+            List<Employee> updated = sameNamed == null ? new ArrayList<>(1) : new ArrayList<>(sameNamed);
+            updated.add(employee);
+            return List.copyOf(updated);
+        });
+        return new EmployeeNameIndex(updatedByName);
+    }
+
+    EmployeeNameIndex withRemoved(Employee employee) {
+        if (employee.name() == null || !employeesByName.containsKey(employee.name())) {
+            return this;
+        }
+        Map<String, List<Employee>> updatedByName = new HashMap<>(employeesByName);
+        updatedByName.computeIfPresent(employee.name(), (name, sameNamed) -> {
+            List<Employee> updated = sameNamed.stream()
+                    .filter(candidate -> !Objects.equals(candidate.id(), employee.id()))
+                    .toList();
+            return updated.isEmpty() ? null : updated;
+        });
+        return new EmployeeNameIndex(updatedByName);
+    }
+}
@@ -0,0 +1,271 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.client.SingleFlight;
+import com.reliaquest.api.client.outbound.EmployeeApiResponse;
+import com.reliaquest.api.model.Employee;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-process snapshot of the upstream roster with stale-while-revalidate semantics.
+ * <p>
+ * The first read loads the roster synchronously. After that reads are always answered from the current
+ * snapshot; once it is older than {@code ttl - refreshAhead} a single background refresh is started and the
+ * existing snapshot keeps being served until the refresh succeeds. A failed refresh (e.g. the upstream is
+ * throttling) leaves the previous snapshot in place.
+ * <p>
+ * Confirmed upstream creates and deletes are written through to the snapshot, so reads see them immediately. Writes
+ * made while a load is in flight may be missing from the roster it returns; they are replayed onto it before it is
+ * installed.
+ * <p>
+ * Every roster loaded from the upstream is also persisted in the background through {@link RosterSnapshotStore}. At
+ * startup a persisted roster is installed right away and refreshed in the background, so reads are served while the
+ * upstream may still be throttling.
+ */
+@Slf4j
+@Component
+public class EmployeeRosterCache {
+    private static final String ROSTER_KEY = "roster";
+
+    private final EmployeeApiClient employeeApiClient;
+    private final Executor refreshExecutor;
+    private final Duration refreshAfter;
+    private final Clock clock;
+    private final RosterSnapshotStore rosterSnapshotStore;
+
+    private final AtomicReference<RosterSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean refreshInFlight = new AtomicBoolean();
+    private final SingleFlight<String, RosterSnapshot> loadSingleFlight = new SingleFlight<>();
+    private final Deque<RosterWrite> recentWrites = new ArrayDeque<>();
+    private final AtomicReference<RosterSnapshot> pendingPersist = new AtomicReference<>();
+
+    @Autowired
+    public EmployeeRosterCache(EmployeeApiClient employeeApiClient,
+                               @Qualifier("applicationTaskExecutor") Executor refreshExecutor,
+                               @Value("${employee.roster.ttl:PT30S}") Duration ttl,
+                               @Value("${employee.roster.refresh-ahead:PT5S}") Duration refreshAhead,
+                               RosterSnapshotStore rosterSnapshotStore) {
+        this(employeeApiClient, refreshExecutor, ttl, refreshAhead, Clock.systemUTC(), rosterSnapshotStore);
+    }
+
+    public EmployeeRosterCache(EmployeeApiClient employeeApiClient,
+                               Executor refreshExecutor,
+                               Duration ttl,
+                               Duration refreshAhead,
+                               Clock clock) {
+        this(employeeApiClient, refreshExecutor, ttl, refreshAhead, clock, RosterSnapshotStore.disabled());
+    }
+
+    public EmployeeRosterCache(EmployeeApiClient employeeApiClient,
+                               Executor refreshExecutor,
+                               Duration ttl,
+                               Duration refreshAhead,
+                               Clock clock,
+                               RosterSnapshotStore rosterSnapshotStore) {
+        if (refreshAhead.compareTo(ttl) > 0) {
+            throw new IllegalArgumentException("employee.roster.refresh-ahead must not exceed employee.roster.ttl");
+        }
+        this.employeeApiClient = employeeApiClient;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshAfter = ttl.minus(refreshAhead);
+        this.clock = clock;
+        this.rosterSnapshotStore = rosterSnapshotStore;
+    }
+
+    /**
+     * Installs the persisted roster, if there is one and no roster has been loaded yet, and starts a background
+     * refresh of it.
+     */
+    @PostConstruct
+    public void restorePersistedSnapshot() {
+        rosterSnapshotStore.load().ifPresent(persisted -> {
+            if (snapshot.compareAndSet(null, persisted)) {
+                log.info("Restored persisted employee roster of {} employees loaded at {}",
+                        persisted.employees().size(), persisted.loadedAt());
+                refreshInBackground();
+            }
+        });
+    }
+
+    public RosterSnapshot current() {
+        RosterSnapshot current = snapshot.get();
+        if (current == null) {
+            return load().block();
+        }
+        refreshIfDue(current);
+        return current;
+    }
+
+    /**
+     * Non-blocking variant of {@link #current()}.
+     */
+    public Mono<RosterSnapshot> currentAsync() {
+        return Mono.defer(() -> {
+            RosterSnapshot current = snapshot.get();
+            if (current == null) {
+                return load();
+            }
+            refreshIfDue(current);
+            return Mono.just(current);
+        });
+    }
+
+    /**
+     * Returns the current snapshot if one is loaded, starting a background refresh when it is due, but never loads
+     * a cold cache.
+     */
+    public Optional<RosterSnapshot> currentIfLoaded() {
+        RosterSnapshot current = snapshot.get();
+        if (current != null) {
+            refreshIfDue(current);
+        }
+        return Optional.ofNullable(current);
+    }
+
+    /**
+     * Returns the current snapshot without loading or refreshing it.
+     */
+    public Optional<RosterSnapshot> peek() {
+        return Optional.ofNullable(snapshot.get());
+    }
+
+    /**
+     * Writes a confirmed upstream create through to the current snapshot, if one is loaded.
+     */
+    public void employeeCreated(Employee employee) {
+        write(new RosterWrite(employee, true, clock.instant()));
+    }
+
+    /**
+     * Writes a confirmed upstream delete through to the current snapshot, if one is loaded.
+     */
+    public void employeeDeleted(Employee employee) {
+        write(new RosterWrite(employee, false, clock.instant()));
+    }
+
+    public RosterSnapshot refresh() {
+        return load().block();
+    }
+
+    /**
+     * Streams the roster from the upstream and installs it as the new snapshot. Employees are mapped as they are
+     * decoded, so the only full copy held is the snapshot's own list. Concurrent loads (cold readers, background
+     * refreshes) share a single upstream request.
+     */
+    private Mono<RosterSnapshot> load() {
+        return loadSingleFlight.execute(ROSTER_KEY, () -> {
+            Instant startedAt = clock.instant();
+            return employeeApiClient.streamAllEmployee()
+                    .map(EmployeeApiResponse::toEmployee)
+                    .collectList()
+                    .map(employees -> install(employees, startedAt));
+        });
+    }
+
+    private RosterSnapshot install(List<Employee> employees, Instant loadStartedAt) {
+        RosterSnapshot refreshed = RosterSnapshot.of(employees, clock.instant());
+        synchronized (recentWrites) {
+            recentWrites.removeIf(write -> write.at().isBefore(loadStartedAt));
+            for (RosterWrite write : recentWrites) {
+                refreshed = write.applyTo(refreshed);
+            }
+            snapshot.set(refreshed);
+        }
+        log.debug("Refreshed employee roster snapshot with {} employees", refreshed.employees().size());
+        persistInBackground(refreshed);
+        return refreshed;
+    }
+
+    /**
+     * Persists the latest installed roster. Rosters installed while a save is running replace each other, so only
+     * the newest one is written next.
+     */
+    private void persistInBackground(RosterSnapshot installed) {
+        if (!rosterSnapshotStore.isEnabled() || pendingPersist.getAndSet(installed) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                RosterSnapshot next;
+                while ((next = pendingPersist.getAndSet(null)) != null) {
+                    try {
+                        rosterSnapshotStore.save(next);
+                    } catch (IOException | RuntimeException e) {
+                        log.warn("Persisting the employee roster snapshot failed", e);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingPersist.set(null);
+            log.warn("Persisting the employee roster snapshot was rejected", e);
+        }
+    }
+
+    /**
+     * Writes are serialized so that each is applied to the shared indexes exactly once. They are only remembered
+     * while a load is in flight; a load that starts later sees them in the upstream roster.
+     */
+    private void write(RosterWrite write) {
+        synchronized (recentWrites) {
+            if (loadSingleFlight.inFlightCount() == 0) {
+                recentWrites.clear();
+            }
+            recentWrites.addLast(write);
+            RosterSnapshot current = snapshot.get();
+            if (current != null) {
+                snapshot.set(write.applyTo(current));
+            }
+        }
+    }
+
+    private void refreshIfDue(RosterSnapshot current) {
+        if (current.age(clock.instant()).compareTo(refreshAfter) >= 0) {
+            refreshInBackground();
+        }
+    }
+
+    private void refreshInBackground() {
+        if (!refreshInFlight.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh();
+                } catch (RuntimeException e) {
+                    log.warn("Employee roster refresh failed, continuing to serve stale snapshot", e);
+                } finally {
+                    refreshInFlight.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshInFlight.set(false);
+            log.warn("Employee roster refresh rejected, continuing to serve stale snapshot", e);
+        }
+    }
+
+    private record RosterWrite(Employee employee, boolean created, Instant at) {
+        RosterSnapshot applyTo(RosterSnapshot snapshot) {
+            return created ? snapshot.withEmployeeAdded(employee) : snapshot.withEmployeeRemoved(employee);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Employees ordered by descending salary. The highest salary is the head of the set and the top {@code k} earners
+ * are its first {@code k} elements, so neither needs a pass over the whole roster. Employees without a salary are
+ * not indexed. Immutable once built: a change returns a new index.
+ */
+class EmployeeSalaryIndex {
+    private static final Comparator<Employee> HIGHEST_SALARY_FIRST = Comparator
+            .comparing(Employee::salary, Comparator.reverseOrder())
+            .thenComparing(Employee::id, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Employee::name, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final NavigableSet<Employee> employeesBySalary;
+
+    private EmployeeSalaryIndex(NavigableSet<Employee> employeesBySalary) {
+        this.employeesBySalary = employeesBySalary;
+    }
+
+    static EmployeeSalaryIndex of(List<Employee> employees) {
+        NavigableSet<Employee> employeesBySalary = new TreeSet<>(HIGHEST_SALARY_FIRST);
+        for (Employee employee : employees) {
+            if (employee.salary() != null) {
+                employeesBySalary.add(employee);
+            }
+        }
+        return new EmployeeSalaryIndex(employeesBySalary);
+    }
+
+    int highestSalary() {
+        Iterator<Employee> highestFirst = employeesBySalary.iterator();
+        return highestFirst.hasNext() ? highestFirst.next().salary() : 0;
+    }
+
+    List<String> topEarningNames(int limit) {
+        List<String> names = new ArrayList<>(limit);
+        Iterator<Employee> highestFirst = employeesBySalary.iterator();
+        while (names.size() < limit && highestFirst.hasNext()) {
+            names.add(highestFirst.next().name());
+        }
+        return names;
+    }
+
+    EmployeeSalaryIndex withAdded(Employee employee) {
+        if (employee.salary() == null) {
+            return this;
+        }
+        NavigableSet<Employee> updated = new TreeSet<>(employeesBySalary);
+        updated.add(employee);
+        return new EmployeeSalaryIndex(updated);
+    }
+
+    EmployeeSalaryIndex withRemoved(Employee employee) {
+        if (employee.salary() == null || !employeesBySalary.contains(employee)) {
+            return this;
+        }
+        NavigableSet<Employee> updated = new TreeSet<>(employeesBySalary);
+        updated.remove(employee);
+        return new EmployeeSalaryIndex(updated);
+    }
+}
@@ -0,0 +1,115 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Copy of the upstream employee roster as it was at {@code loadedAt}, updated with local creates and deletes,
+ * together with the indexes derived from it. A snapshot never changes once published: a write produces a new
+ * snapshot with its own copy of the list and of every index, so readers of an older snapshot see a consistent view.
+ */
+public final class RosterSnapshot {
+    private final List<Employee> employees;
+    private final Instant loadedAt;
+    private final EmployeeNameIndex nameIndex;
+    private final EmployeeSalaryIndex salaryIndex;
+    private final EmployeeIdIndex idIndex;
+
+    private RosterSnapshot(List<Employee> employees,
+                           Instant loadedAt,
+                           EmployeeNameIndex nameIndex,
+                           EmployeeSalaryIndex salaryIndex,
+                           EmployeeIdIndex idIndex) {
+        this.employees = employees;
+        this.loadedAt = loadedAt;
+        this.nameIndex = nameIndex;
+        this.salaryIndex = salaryIndex;
+        this.idIndex = idIndex;
+    }
+
+    public static RosterSnapshot of(List<Employee> employees, Instant loadedAt) {
+        List<Employee> roster = List.copyOf(employees);
+        return new RosterSnapshot(
+                roster,
+                loadedAt,
+                EmployeeNameIndex.of(roster),
+                EmployeeSalaryIndex.of(roster),
+                EmployeeIdIndex.of(roster));
+    }
+
+    public List<Employee> employees() {
+        return employees;
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    public Duration age(Instant now) {
+        return Duration.between(loadedAt, now);
+    }
+
+    public List<Employee> findByName(String name) {
+        return nameIndex.find(name);
+    }
+
+    public Optional<Employee> findById(UUID id) {
+        return idIndex.find(id);
+    }
+
+    public int highestSalary() {
+        return salaryIndex.highestSalary();
+    }
+
+    public List<String> topEarningNames(int limit) {
+        return salaryIndex.topEarningNames(limit);
+    }
+
+    /**
+     * Returns a snapshot that includes {@code employee}, or this snapshot if it already does.
+     */
+    RosterSnapshot withEmployeeAdded(Employee employee) {
+        if (employee.id() == null || idIndex.find(employee.id()).isPresent()) {
+            return this;
+        }
+        List<Employee> updated = new ArrayList<>(employees.size() + 1);
+        updated.addAll(employees);
+        updated.add(employee);
+        return new RosterSnapshot(
+                Collections.unmodifiableList(updated),
+                loadedAt,
+                nameIndex.withAdded(employee),
+                salaryIndex.withAdded(employee),
+                idIndex.withAdded(employee));
+    }
+
+    /**
+     * Returns a snapshot without the employee with {@code employee}'s id, or this snapshot if it has no such
+     * employee.
+     */
+    RosterSnapshot withEmployeeRemoved(Employee employee) {
+        Optional<Employee> existing = idIndex.find(employee.id());
+        if (existing.isEmpty()) {
+            return this;
+        }
+        List<Employee> updated = new ArrayList<>(Math.max(0, employees.size() - 1));
+        for (Employee candidate : employees) {
+            if (!employee.id().equals(candidate.id())) {
+                updated.add(candidate);
+            }
+        }
+        return new RosterSnapshot(
+                Collections.unmodifiableList(updated),
+                loadedAt,
+                nameIndex.withRemoved(existing.get()),
+                salaryIndex.withRemoved(existing.get()),
+                idIndex.withRemoved(existing.get()));
+    }
+}
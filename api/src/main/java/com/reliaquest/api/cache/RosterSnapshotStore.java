@@ -0,0 +1,172 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Persists the last roster loaded from the upstream to {@code employee.roster.snapshot-file} so that a restarted
+ * api can serve reads before its first upstream load completes. Disabled when the property is empty.
+ * <p>
+ * The file is a compact binary encoding: a header (magic, version, load time, employee count) followed by each
+ * employee as a presence bitmask, the id as two longs, salary and age as ints and the strings as length-prefixed
+ * UTF-8. It is written to a temporary file and moved into place, and read through a memory-mapped buffer. A file
+ * that is missing, truncated or of another version is ignored.
+ */
+@Slf4j
+@Component
+public class RosterSnapshotStore {
+    private static final int MAGIC = 0x52515253;
+    private static final int VERSION = 1;
+
+    private static final int HAS_ID = 1;
+    private static final int HAS_NAME = 1 << 1;
+    private static final int HAS_SALARY = 1 << 2;
+    private static final int HAS_AGE = 1 << 3;
+    private static final int HAS_TITLE = 1 << 4;
+    private static final int HAS_EMAIL = 1 << 5;
+
+    private final Path file;
+
+    public RosterSnapshotStore(@Value("${employee.roster.snapshot-file:}") String file) {
+        this.file = file == null || file.isBlank() ? null : Path.of(file);
+    }
+
+    public static RosterSnapshotStore disabled() {
+        return new RosterSnapshotStore(null);
+    }
+
+    public boolean isEnabled() {
+        return file != null;
+    }
+
+    public Optional<RosterSnapshot> load() {
+        if (file == null) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                log.warn("Ignoring roster snapshot file {} of {} bytes, too large to map", file, size);
+                return Optional.empty();
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return Optional.ofNullable(decode(buffer));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            log.warn("Ignoring unreadable roster snapshot file {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    public synchronized void save(RosterSnapshot snapshot) throws IOException {
+        if (file == null) {
+            return;
+        }
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporary), 64 * 1024))) {
+                encode(snapshot, out);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static void encode(RosterSnapshot snapshot, DataOutputStream out) throws IOException {
+        List<Employee> employees = snapshot.employees();
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(snapshot.loadedAt().toEpochMilli());
+        out.writeInt(employees.size());
+        for (Employee employee : employees) {
+            int presence = (employee.id() != null ? HAS_ID : 0)
+                    | (employee.name() != null ? HAS_NAME : 0)
+                    | (employee.salary() != null ? HAS_SALARY : 0)
+                    | (employee.age() != null ? HAS_AGE : 0)
+                    | (employee.title() != null ? HAS_TITLE : 0)
+                    | (employee.email() != null ? HAS_EMAIL : 0);
+            out.writeByte(presence);
+            if (employee.id() != null) {
+                out.writeLong(employee.id().getMostSignificantBits());
+                out.writeLong(employee.id().getLeastSignificantBits());
+            }
+            writeString(out, employee.name());
+            if (employee.salary() != null) {
+                out.writeInt(employee.salary());
+            }
+            if (employee.age() != null) {
+                out.writeInt(employee.age());
+            }
+            writeString(out, employee.title());
+            writeString(out, employee.email());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value != null) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private RosterSnapshot decode(ByteBuffer buffer) {
+        if (buffer.remaining() < 20 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            log.warn("Ignoring roster snapshot file {} with an unknown format", file);
+            return null;
+        }
+        Instant loadedAt = Instant.ofEpochMilli(buffer.getLong());
+        int count = buffer.getInt();
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative employee count " + count);
+        }
+        List<Employee> employees = new ArrayList<>(Math.min(count, buffer.remaining()));
+        for (int i = 0; i < count; i++) {
+            int presence = buffer.get();
+            UUID id = (presence & HAS_ID) != 0 ? new UUID(buffer.getLong(), buffer.getLong()) : null;
+            String name = (presence & HAS_NAME) != 0 ? readString(buffer) : null;
+            Integer salary = (presence & HAS_SALARY) != 0 ? buffer.getInt() : null;
+            Integer age = (presence & HAS_AGE) != 0 ? buffer.getInt() : null;
+            String title = (presence & HAS_TITLE) != 0 ? readString(buffer) : null;
+            String email = (presence & HAS_EMAIL) != 0 ? readString(buffer) : null;
+            employees.add(new Employee(id, name, salary, age, title, email));
+        }
+        return RosterSnapshot.of(employees, loadedAt);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -4,76 +4,276 @@ import com.reliaquest.api.client.inbound.CreateEmployeeApiRequest;
 import com.reliaquest.api.client.inbound.DeleteEmployeeApiRequest;
 import com.reliaquest.api.client.outbound.EmployeeApiResponse;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @Component
 public class EmployeeApiClient {
+    private static final String EMPLOYEE_PATH = "/api/v1/employee";
+    private static final String LIST_OPERATION = "list";
+    private static final String GET_BY_ID_OPERATION = "get-by-id";
+    private static final String CREATE_OPERATION = "create";
+    private static final String DELETE_OPERATION = "delete";
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String ID_AND_NAME_FIELDS = "id,employee_name";
+
     private WebClient employeeServiceWebClient;
+    private UpstreamRateLimiter upstreamRateLimiter;
+    private CircuitBreakerRegistry circuitBreakers;
+    private Bulkhead bulkhead;
+    private Retry throttledRetry;
+    private int listPageSize;
+    private EmployeeListStreamDecoder employeeListStreamDecoder = new EmployeeListStreamDecoder();
+    private SingleFlight<String, List<EmployeeApiResponse>> listSingleFlight = new SingleFlight<>();
+    private SingleFlight<UUID, GetEmployeeByIdResponse> findByIdSingleFlight = new SingleFlight<>();
+
+    @Autowired
+    public EmployeeApiClient(WebClient employeeServiceWebClient,
+                             UpstreamRateLimiter upstreamRateLimiter,
+                             CircuitBreakerRegistry circuitBreakers,
+                             Bulkhead bulkhead,
+                             @Value("${employee.upstream.retry.max-attempts:8}") int maxRetryAttempts,
+                             @Value("${employee.upstream.retry.min-backoff:PT0.2S}") Duration minRetryBackoff,
+                             @Value("${employee.upstream.retry.max-backoff:PT10S}") Duration maxRetryBackoff,
+                             @Value("${employee.upstream.list-page-size:0}") int listPageSize) {
+        this(employeeServiceWebClient, upstreamRateLimiter, circuitBreakers, bulkhead,
+                maxRetryAttempts, minRetryBackoff, maxRetryBackoff);
+        this.listPageSize = listPageSize;
+    }
 
-    public EmployeeApiClient(@Autowired WebClient employeeServiceWebClient) {
+    public EmployeeApiClient(WebClient employeeServiceWebClient,
+                             UpstreamRateLimiter upstreamRateLimiter,
+                             CircuitBreakerRegistry circuitBreakers,
+                             Bulkhead bulkhead,
+                             int maxRetryAttempts,
+                             Duration minRetryBackoff,
+                             Duration maxRetryBackoff) {
         this.employeeServiceWebClient = employeeServiceWebClient;
+        this.upstreamRateLimiter = upstreamRateLimiter;
+        this.circuitBreakers = circuitBreakers;
+        this.bulkhead = bulkhead;
+        this.throttledRetry = Retry.backoff(maxRetryAttempts, minRetryBackoff)
+                .maxBackoff(maxRetryBackoff)
+                .jitter(0.5)
+                .filter(EmployeeApiClient::isTooManyRequests)
+                .onRetryExhaustedThrow((retrySpec, retrySignal) -> retrySignal.failure());
     }
 
     public EmployeeApiResponse createEmployee(CreateEmployeeApiRequest createEmployeeApiRequest) {
-        CreateEmployeeResponse createEmployeeResponse = employeeServiceWebClient
+        return createEmployeeAsync(createEmployeeApiRequest).block();
+    }
+
+    public List<EmployeeApiResponse> findAllEmployee() {
+        return findAllEmployeeAsync().block();
+    }
+
+    public EmployeeApiResponse findById(UUID id) {
+        return findByIdAsync(id).block();
+    }
+
+    public EmployeeApiResponse findNameById(UUID id) {
+        return findNameByIdAsync(id).block();
+    }
+
+    public boolean deleteEmployee(DeleteEmployeeApiRequest request) {
+        return Boolean.TRUE.equals(deleteEmployeeAsync(request).block());
+    }
+
+    public Mono<EmployeeApiResponse> createEmployeeAsync(CreateEmployeeApiRequest createEmployeeApiRequest) {
+        return scheduled(CREATE_OPERATION, () -> employeeServiceWebClient
                 .post()
-                .uri("/api/v1/employee")
+                .uri(EMPLOYEE_PATH)
                 .bodyValue(createEmployeeApiRequest)
                 .retrieve()
-                .bodyToMono(CreateEmployeeResponse.class)
-                .block();
-        return createEmployeeResponse.data();
+                .bodyToMono(CreateEmployeeResponse.class))
+                .map(CreateEmployeeResponse::data);
     }
 
-    public List<EmployeeApiResponse> findAllEmployee() {
-        EmployeeListResponse employeeListResponse = employeeServiceWebClient
+    public Mono<List<EmployeeApiResponse>> findAllEmployeeAsync() {
+        return listSingleFlight.execute(EMPLOYEE_PATH, () -> streamAllEmployee().collectList());
+    }
+
+    /**
+     * Streams the roster element by element as it is decoded from the response body, without buffering the
+     * response or the full list. With {@code employee.upstream.list-page-size} set the roster is fetched in pages
+     * instead, see {@link #streamAllEmployeePages(int)}.
+     */
+    public Flux<EmployeeApiResponse> streamAllEmployee() {
+        if (listPageSize > 0) {
+            return streamAllEmployeePages(listPageSize);
+        }
+        return scheduledMany(LIST_OPERATION, () -> employeeListStreamDecoder.decode(employeeServiceWebClient
                 .get()
-                .uri("/api/v1/employee")
+                .uri(EMPLOYEE_PATH)
                 .retrieve()
-                .bodyToMono(EmployeeListResponse.class)
-                .block();
-        return employeeListResponse.data();
+                .bodyToFlux(DataBuffer.class)));
     }
 
-    public EmployeeApiResponse findById(UUID id) {
-        GetEmployeeByIdResponse employeeByIdResponse = employeeServiceWebClient
-                .get()
-                .uri("/api/v1/employee/" + id)
+    /**
+     * Streams the roster page by page using the upstream's cursor pagination. A page is only requested once the
+     * previous one has been received and handed downstream, so at most one page is in flight, and a throttled page
+     * is retried on its own.
+     */
+    public Flux<EmployeeApiResponse> streamAllEmployeePages(int pageSize) {
+        return findPageAsync(pageSize, null)
+                .expand(page -> page.nextCursor() == null ? Mono.empty() : findPageAsync(pageSize, page.nextCursor()))
+                .concatMapIterable(EmployeePage::employees, 1);
+    }
+
+    private Mono<EmployeePage> findPageAsync(int pageSize, String cursor) {
+        return scheduled(LIST_OPERATION, () -> (cursor == null
+                        ? employeeServiceWebClient.get().uri(EMPLOYEE_PATH + "?limit={limit}", pageSize)
+                        : employeeServiceWebClient.get().uri(EMPLOYEE_PATH + "?limit={limit}&cursor={cursor}", pageSize, cursor))
+                .retrieve()
+                .toEntityFlux(DataBuffer.class)
+                .flatMap(response -> employeeListStreamDecoder.decode(response.getBody())
+                        .collectList()
+                        .map(employees -> new EmployeePage(employees, response.getHeaders().getFirst(NEXT_CURSOR_HEADER)))));
+    }
+
+    public Mono<EmployeeApiResponse> findByIdAsync(UUID id) {
+        return findByIdSingleFlight
+                .execute(id, () -> getById(id, null))
+                .map(GetEmployeeByIdResponse::data);
+    }
+
+    /**
+     * Looks up only the id and name of an employee, which is all a delete by id needs; the other properties of the
+     * returned employee are {@code null} if the upstream honours the projection.
+     */
+    public Mono<EmployeeApiResponse> findNameByIdAsync(UUID id) {
+        return getById(id, ID_AND_NAME_FIELDS).map(GetEmployeeByIdResponse::data);
+    }
+
+    private Mono<GetEmployeeByIdResponse> getById(UUID id, String fields) {
+        return scheduled(GET_BY_ID_OPERATION, () -> (fields == null
+                        ? employeeServiceWebClient.get().uri(EMPLOYEE_PATH + "/{id}", id)
+                        : employeeServiceWebClient.get().uri(EMPLOYEE_PATH + "/{id}?fields={fields}", id, fields))
                 .retrieve()
                 .onStatus(httpStatusCode -> httpStatusCode.value() == 404, response -> response.bodyToMono(String.class)
                         .flatMap( body -> {
                             throw new EmployeeNotFoundException("Employee with id " + id + " Not found.");
                         })
                 )
-                .bodyToMono(GetEmployeeByIdResponse.class)
-                .block();
-        return employeeByIdResponse.data();
+                .bodyToMono(GetEmployeeByIdResponse.class));
     }
 
-    public boolean deleteEmployee(DeleteEmployeeApiRequest request) {
-        DeleteEmployeeByNameResponse deleteByNameResponse = employeeServiceWebClient
+    public Mono<Boolean> deleteEmployeeAsync(DeleteEmployeeApiRequest request) {
+        return scheduled(DELETE_OPERATION, () -> employeeServiceWebClient
                 .method(HttpMethod.DELETE)
-                .uri("/api/v1/employee")
+                .uri(EMPLOYEE_PATH)
                 .bodyValue(request)
                 .retrieve()
-                .bodyToMono(DeleteEmployeeByNameResponse.class)
-                .block();
-        return deleteByNameResponse.data();
+                .bodyToMono(DeleteEmployeeByNameResponse.class))
+                .map(DeleteEmployeeByNameResponse::data);
     }
 
+    /**
+     * Sends the upstream call once {@link UpstreamRateLimiter} hands out a permit, feeds the outcome back into it
+     * and re-queues the call with jittered backoff when the upstream still answers 429.
+     * <p>
+     * Each attempt first has to pass the shared bulkhead, before it waits for a rate limit permit. The operation's
+     * circuit breaker only wraps the upstream call itself, so time spent waiting for a permit never counts as a slow
+     * call; an open circuit is still checked before reserving a permit. While the circuit is open or the bulkhead is
+     * full the call fails immediately with {@link UpstreamUnavailableException}, as it does once retries against a
+     * throttling upstream are exhausted.
+     */
+    private <T> Mono<T> scheduled(String operation, Supplier<Mono<T>> upstreamCall) {
+        CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(operation);
+        return Mono.defer(() -> rejectIfOpen(circuitBreaker)
+                        .then(Mono.delay(upstreamRateLimiter.reserve()))
+                        .then(Mono.defer(upstreamCall).transformDeferred(CircuitBreakerOperator.of(circuitBreaker))))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .doOnSuccess(ignored -> upstreamRateLimiter.onAdmitted())
+                .doOnError(this::recordFailure)
+                .retryWhen(throttledRetry)
+                .onErrorMap(EmployeeApiClient::isUnavailable, error -> unavailable(operation, error));
+    }
 
-}
+    /**
+     * Same as {@link #scheduled(String, Supplier)} for streamed responses. A 429 arrives before any element has
+     * been emitted, so re-subscribing on retry cannot duplicate elements.
+     */
+    private <T> Flux<T> scheduledMany(String operation, Supplier<Flux<T>> upstreamCall) {
+        CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(operation);
+        return Flux.defer(() -> rejectIfOpen(circuitBreaker)
+                        .then(Mono.delay(upstreamRateLimiter.reserve()))
+                        .thenMany(Flux.defer(upstreamCall)
+                                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .doOnComplete(upstreamRateLimiter::onAdmitted)
+                .doOnError(this::recordFailure)
+                .retryWhen(throttledRetry)
+                .onErrorMap(EmployeeApiClient::isUnavailable, error -> unavailable(operation, error));
+    }
 
-record EmployeeListResponse(
-        List<EmployeeApiResponse> data,
-        String status
-) { }
+    private static Mono<Void> rejectIfOpen(CircuitBreaker circuitBreaker) {
+        CircuitBreaker.State state = circuitBreaker.getState();
+        return state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN
+                ? Mono.error(CallNotPermittedException.createCallNotPermittedException(circuitBreaker))
+                : Mono.empty();
+    }
+
+    private void recordFailure(Throwable error) {
+        if (isTooManyRequests(error)) {
+            upstreamRateLimiter.onThrottled(retryAfter((WebClientResponseException) error));
+        } else if (error instanceof WebClientResponseException || error instanceof EmployeeNotFoundException) {
+            upstreamRateLimiter.onAdmitted();
+        }
+    }
+
+    private static boolean isUnavailable(Throwable error) {
+        return error instanceof CallNotPermittedException
+                || error instanceof BulkheadFullException
+                || isTooManyRequests(error);
+    }
+
+    private static UpstreamUnavailableException unavailable(String operation, Throwable error) {
+        return new UpstreamUnavailableException(
+                "Employee service " + operation + " is unavailable: " + error.getMessage(), error);
+    }
+
+    private static boolean isTooManyRequests(Throwable error) {
+        return error instanceof WebClientResponseException responseException
+                && responseException.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private static Duration retryAfter(WebClientResponseException error) {
+        String retryAfter = error.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+}
 
 record CreateEmployeeResponse(
         EmployeeApiResponse data,
@@ -85,6 +285,11 @@ record GetEmployeeByIdResponse(
         String status
 ) { }
 
+record EmployeePage(
+        List<EmployeeApiResponse> employees,
+        String nextCursor
+) { }
+
 record DeleteEmployeeByNameResponse(
     boolean data,
     String status
@@ -0,0 +1,127 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.reliaquest.api.client.outbound.EmployeeApiResponse;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decodes the upstream list response, {@code {"data": [ ... ], "status": "..."}}, into a stream of its
+ * {@code data} elements as the bytes arrive. Only the element currently being parsed is buffered, so the size of
+ * the roster is not bounded by the codec's in-memory limit and the response is never held in memory as a whole.
+ */
+class EmployeeListStreamDecoder {
+    private static final String DATA_FIELD = "data";
+
+    private final ObjectMapper objectMapper;
+
+    EmployeeListStreamDecoder() {
+        this(Jackson2ObjectMapperBuilder.json().build());
+    }
+
+    EmployeeListStreamDecoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    Flux<EmployeeApiResponse> decode(Flux<DataBuffer> body) {
+        return Flux.defer(() -> {
+            ElementParser elementParser = new ElementParser();
+            return body.concatMapIterable(elementParser::feed)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(elementParser.endOfInput())))
+                    .doFinally(signal -> elementParser.close());
+        });
+    }
+
+    private class ElementParser {
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private int depth;
+        private boolean inData;
+        private TokenBuffer element;
+
+        ElementParser() {
+            try {
+                parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+            } catch (IOException e) {
+                throw new DecodingException("Could not create JSON parser", e);
+            }
+            feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        List<EmployeeApiResponse> feed(DataBuffer buffer) {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            DataBufferUtils.release(buffer);
+            try {
+                feeder.feedInput(bytes, 0, bytes.length);
+                return drain();
+            } catch (IOException e) {
+                throw new DecodingException("Could not decode employee list", e);
+            }
+        }
+
+        List<EmployeeApiResponse> endOfInput() {
+            feeder.endOfInput();
+            try {
+                List<EmployeeApiResponse> decoded = drain();
+                if (depth != 0) {
+                    throw new DecodingException("Employee list response ended unexpectedly");
+                }
+                return decoded;
+            } catch (IOException e) {
+                throw new DecodingException("Could not decode employee list", e);
+            }
+        }
+
+        void close() {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // nothing left to release
+            }
+        }
+
+        private List<EmployeeApiResponse> drain() throws IOException {
+            List<EmployeeApiResponse> decoded = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (token.isStructStart()) {
+                    depth++;
+                    if (element == null && depth == 2 && token == JsonToken.START_ARRAY
+                            && DATA_FIELD.equals(parser.currentName())) {
+                        inData = true;
+                        continue;
+                    }
+                    if (element == null && inData && depth == 3) {
+                        element = new TokenBuffer(parser);
+                    }
+                } else if (token.isStructEnd()) {
+                    depth--;
+                    if (inData && depth == 1) {
+                        inData = false;
+                    }
+                }
+
+                if (element != null) {
+                    element.copyCurrentEvent(parser);
+                    if (depth == 2) {
+                        decoded.add(objectMapper.readValue(element.asParser(objectMapper), EmployeeApiResponse.class));
+                        element = null;
+                    }
+                }
+            }
+            return decoded;
+        }
+    }
+}
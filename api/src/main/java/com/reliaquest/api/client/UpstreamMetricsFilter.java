@@ -0,0 +1,94 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records every upstream exchange:
+ * <ul>
+ *     <li>{@code employee.upstream.requests}: time until the response status and headers arrive, by method, uri
+ *     template and status</li>
+ *     <li>{@code employee.upstream.body}: time spent reading and decoding the response body, by method and uri
+ *     template</li>
+ *     <li>{@code employee.upstream.errors}: 429, 404 and 5xx responses, by uri template and status</li>
+ *     <li>{@code employee.upstream.received}: response body bytes, by uri template</li>
+ *     <li>{@code employee.upstream.in-flight}: exchanges waiting for a response</li>
+ * </ul>
+ * The uri tag is the template passed to {@link WebClient}, so per-id requests share one series.
+ */
+public class UpstreamMetricsFilter implements ExchangeFilterFunction {
+    private static final String URI_TEMPLATE_ATTRIBUTE = WebClient.class.getName() + ".uriTemplate";
+    private static final String IO_ERROR = "IO_ERROR";
+
+    private MeterRegistry meterRegistry;
+    private AtomicInteger inFlight = new AtomicInteger();
+
+    public UpstreamMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("employee.upstream.in-flight", inFlight);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String method = request.method().name();
+        String uri = request.attribute(URI_TEMPLATE_ATTRIBUTE)
+                .map(Object::toString)
+                .orElseGet(() -> request.url().getPath());
+        return Mono.defer(() -> {
+            inFlight.incrementAndGet();
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return next.exchange(request)
+                    .doOnNext(response -> recordResponse(sample, method, uri, response.statusCode().value()))
+                    .doOnError(error -> sample.stop(requestTimer(method, uri, IO_ERROR)))
+                    .doFinally(signal -> inFlight.decrementAndGet())
+                    .map(response -> measureBody(response, method, uri));
+        });
+    }
+
+    private void recordResponse(Timer.Sample sample, String method, String uri, int status) {
+        sample.stop(requestTimer(method, uri, String.valueOf(status)));
+        if (status == 429 || status == 404 || status >= 500) {
+            Counter.builder("employee.upstream.errors")
+                    .tag("uri", uri)
+                    .tag("status", String.valueOf(status))
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    private ClientResponse measureBody(ClientResponse response, String method, String uri) {
+        Counter received = Counter.builder("employee.upstream.received")
+                .baseUnit("bytes")
+                .tag("uri", uri)
+                .register(meterRegistry);
+        Timer bodyTimer = Timer.builder("employee.upstream.body")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry);
+        return response.mutate()
+                .body(body -> Flux.defer(() -> {
+                    Timer.Sample sample = Timer.start(meterRegistry);
+                    return body.doOnNext(buffer -> received.increment(buffer.readableByteCount()))
+                            .doFinally(signal -> sample.stop(bodyTimer));
+                }))
+                .build();
+    }
+
+    private Timer requestTimer(String method, String uri, String status) {
+        return Timer.builder("employee.upstream.requests")
+                .tag("method", method)
+                .tag("uri", uri)
+                .tag("status", status)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,133 @@
+package com.reliaquest.api.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Client-side token bucket in front of every upstream call.
+ * <p>
+ * The upstream allows a fixed number of requests and then rejects everything with 429 until a back-off window
+ * has passed since the last admitted request. Neither value is published, so both are learned: the number of
+ * requests admitted before the first 429 becomes the bucket size, and the time between the last admitted request
+ * and the first one admitted after the 429 becomes the window (or the {@code Retry-After} hint, when present).
+ * Until the window is known {@code probeInterval} is used instead.
+ * <p>
+ * Callers do not wait on a lock; {@link #reserve()} hands out the delay after which the caller may send its
+ * request, so requests over budget are queued into the next window instead of being rejected.
+ */
+@Slf4j
+@Component
+public class UpstreamRateLimiter {
+    private final Duration probeInterval;
+    private final Clock clock;
+
+    private int limit;
+    private Duration window;
+    private int grantedInWindow;
+    private Instant windowOpensAt = Instant.EPOCH;
+    private Instant lastGrantAt = Instant.EPOCH;
+    private Instant blockedUntil = Instant.EPOCH;
+
+    private int admittedSinceReset;
+    private Instant lastAdmittedAt;
+    private boolean recovering;
+    private Instant recoveringSince;
+
+    @Autowired
+    public UpstreamRateLimiter(@Value("${employee.upstream.rate-limit.probe-interval:PT5S}") Duration probeInterval) {
+        this(probeInterval, Clock.systemUTC());
+    }
+
+    public UpstreamRateLimiter(Duration probeInterval, Clock clock) {
+        this.probeInterval = probeInterval;
+        this.clock = clock;
+    }
+
+    /**
+     * Takes a permit and returns how long the caller has to wait before using it.
+     */
+    public synchronized Duration reserve() {
+        Instant now = clock.instant();
+        Instant grantAt = latest(now, blockedUntil, windowOpensAt);
+        if (limit > 0) {
+            if (grantedInWindow >= limit) {
+                windowOpensAt = latest(grantAt, lastGrantAt.plus(effectiveWindow()));
+                grantAt = windowOpensAt;
+                grantedInWindow = 0;
+            }
+            grantedInWindow++;
+        }
+        lastGrantAt = latest(lastGrantAt, grantAt);
+        return Duration.between(now, grantAt);
+    }
+
+    /**
+     * Records a response that passed the upstream limiter, whatever its status.
+     */
+    public synchronized void onAdmitted() {
+        Instant now = clock.instant();
+        if (recovering) {
+            Duration observedWindow = Duration.between(lastAdmittedAt != null ? lastAdmittedAt : recoveringSince, now);
+            if (window == null || observedWindow.compareTo(window) > 0) {
+                window = observedWindow;
+                log.info("Learned upstream back-off window of {}", window);
+            }
+            recovering = false;
+            admittedSinceReset = 0;
+        } else {
+            admittedSinceReset++;
+        }
+        lastAdmittedAt = now;
+    }
+
+    /**
+     * Records a 429 from the upstream and closes the bucket until the back-off window has passed.
+     *
+     * @param retryAfter the upstream's {@code Retry-After} hint, or {@code null}
+     */
+    public synchronized void onThrottled(Duration retryAfter) {
+        Instant now = clock.instant();
+        if (limit == 0 || admittedSinceReset < limit) {
+            limit = Math.max(1, admittedSinceReset);
+            log.info("Learned upstream request limit of {}", limit);
+        }
+        if (retryAfter != null && (window == null || retryAfter.compareTo(window) > 0)) {
+            window = retryAfter;
+        }
+        blockedUntil = latest(blockedUntil, now.plus(retryAfter != null ? retryAfter : effectiveWindow()));
+        windowOpensAt = blockedUntil;
+        grantedInWindow = 0;
+        if (!recovering) {
+            recovering = true;
+            recoveringSince = now;
+        }
+    }
+
+    public synchronized int learnedLimit() {
+        return limit;
+    }
+
+    public synchronized Duration learnedWindow() {
+        return window;
+    }
+
+    private Duration effectiveWindow() {
+        return window != null ? window : probeInterval;
+    }
+
+    private static Instant latest(Instant first, Instant... others) {
+        Instant latest = first;
+        for (Instant other : others) {
+            if (other.isAfter(latest)) {
+                latest = other;
+            }
+        }
+        return latest;
+    }
+}
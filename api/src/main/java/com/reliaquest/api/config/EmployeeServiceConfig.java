@@ -1,16 +1,106 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.client.UpstreamMetricsFilter;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
 
 @Configuration
+@EnableConfigurationProperties({EmployeeServiceHttpProperties.class, EmployeeServiceResilienceProperties.class})
 public class EmployeeServiceConfig {
 
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider employeeServiceConnectionProvider(EmployeeServiceHttpProperties properties) {
+        return ConnectionProvider.builder("employee-service")
+                .maxConnections(properties.maxConnections())
+                .pendingAcquireMaxCount(properties.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.pendingAcquireTimeout())
+                .maxIdleTime(properties.maxIdleTime())
+                .maxLifeTime(properties.maxLifeTime())
+                .evictInBackground(properties.evictionInterval())
+                .metrics(properties.metrics())
+                .build();
+    }
+
     @Bean
     public WebClient employeeServiceWebClient(
-            @Value("${EMPLOYEE_SERVICE_BASE_PATH}") String employeeServiceBasePath) {
-        return WebClient.create(employeeServiceBasePath);
+            @Value("${EMPLOYEE_SERVICE_BASE_PATH}") String employeeServiceBasePath,
+            ConnectionProvider employeeServiceConnectionProvider,
+            EmployeeServiceHttpProperties properties,
+            MeterRegistry meterRegistry) {
+        HttpClient httpClient = HttpClient.create(employeeServiceConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(properties.connectTimeout().toMillis()))
+                .option(ChannelOption.SO_KEEPALIVE, properties.keepAlive())
+                .keepAlive(properties.keepAlive())
+                .responseTimeout(properties.responseTimeout())
+                .compress(properties.compression())
+                .protocol(properties.http2()
+                        ? new HttpProtocol[] {HttpProtocol.HTTP11, HttpProtocol.H2C}
+                        : new HttpProtocol[] {HttpProtocol.HTTP11});
+        return WebClient.builder()
+                .baseUrl(employeeServiceBasePath)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(new UpstreamMetricsFilter(meterRegistry))
+                .build();
+    }
+
+    /**
+     * Circuit breakers for the upstream operations. Throttling (429), server errors and connection failures count
+     * as failures; any other response, including 404, shows the upstream is up.
+     */
+    @Bean
+    public CircuitBreakerRegistry employeeServiceCircuitBreakers(
+            EmployeeServiceResilienceProperties properties,
+            MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(properties.failureRateThreshold())
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(properties.slidingWindowSize())
+                .minimumNumberOfCalls(properties.minimumNumberOfCalls())
+                .waitDurationInOpenState(properties.waitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(properties.permittedCallsInHalfOpenState())
+                .recordException(EmployeeServiceConfig::isUpstreamFailure)
+                .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        return circuitBreakers;
+    }
+
+    @Bean
+    public Bulkhead employeeServiceBulkhead(EmployeeServiceResilienceProperties properties, MeterRegistry meterRegistry) {
+        BulkheadRegistry bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.maxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+        return bulkheads.bulkhead("employee-service");
+    }
+
+    private static boolean isUpstreamFailure(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status == HttpStatus.TOO_MANY_REQUESTS.value() || status >= 500;
+        }
+        return error instanceof WebClientRequestException || error instanceof TimeoutException;
     }
 }
@@ -0,0 +1,38 @@
+package com.reliaquest.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Connection engine settings for the upstream employee service WebClient.
+ *
+ * @param maxConnections maximum number of pooled connections to the upstream
+ * @param pendingAcquireMaxCount maximum number of requests queued for a pooled connection, -1 for unbounded
+ * @param pendingAcquireTimeout how long a request may wait for a pooled connection
+ * @param maxIdleTime idle connections older than this are closed
+ * @param maxLifeTime connections older than this are closed once released
+ * @param evictionInterval how often idle and expired connections are evicted in the background
+ * @param connectTimeout TCP connect timeout
+ * @param responseTimeout time allowed between sending the request and receiving the response
+ * @param keepAlive whether to keep connections alive between requests
+ * @param compression whether to negotiate gzip/deflate compressed responses
+ * @param http2 whether to offer HTTP/2 (cleartext upgrade) in addition to HTTP/1.1
+ * @param metrics whether to publish pool metrics (active, idle, pending connections) to Micrometer
+ */
+@ConfigurationProperties("employee.upstream.http")
+public record EmployeeServiceHttpProperties(
+        @DefaultValue("50") int maxConnections,
+        @DefaultValue("1000") int pendingAcquireMaxCount,
+        @DefaultValue("PT10S") Duration pendingAcquireTimeout,
+        @DefaultValue("PT30S") Duration maxIdleTime,
+        @DefaultValue("PT5M") Duration maxLifeTime,
+        @DefaultValue("PT30S") Duration evictionInterval,
+        @DefaultValue("PT2S") Duration connectTimeout,
+        @DefaultValue("PT10S") Duration responseTimeout,
+        @DefaultValue("true") boolean keepAlive,
+        @DefaultValue("true") boolean compression,
+        @DefaultValue("false") boolean http2,
+        @DefaultValue("true") boolean metrics
+) { }
@@ -0,0 +1,28 @@
+package com.reliaquest.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker and bulkhead settings for calls to the upstream employee service. Each upstream operation (list,
+ * get-by-id, create, delete) has its own circuit breaker with these settings; the bulkhead is shared.
+ *
+ * @param failureRateThreshold percentage of failed calls in the sliding window that opens a circuit
+ * @param slidingWindowSize number of most recent calls the failure rate is computed over
+ * @param minimumNumberOfCalls calls required in the window before the failure rate is evaluated
+ * @param waitDurationInOpenState how long an open circuit rejects calls before letting probes through
+ * @param permittedCallsInHalfOpenState probe calls let through while half-open to decide whether to close again
+ * @param maxConcurrentCalls maximum number of outstanding upstream calls, including those waiting for a rate limit
+ *                           permit; further calls are rejected immediately
+ */
+@ConfigurationProperties("employee.upstream.resilience")
+public record EmployeeServiceResilienceProperties(
+        @DefaultValue("50") float failureRateThreshold,
+        @DefaultValue("10") int slidingWindowSize,
+        @DefaultValue("5") int minimumNumberOfCalls,
+        @DefaultValue("PT15S") Duration waitDurationInOpenState,
+        @DefaultValue("2") int permittedCallsInHalfOpenState,
+        @DefaultValue("100") int maxConcurrentCalls
+) { }
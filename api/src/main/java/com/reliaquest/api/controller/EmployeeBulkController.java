@@ -0,0 +1,44 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.controller.inbound.CreateEmployeeRequest;
+import com.reliaquest.api.model.BulkCreateResult;
+import com.reliaquest.api.model.BulkDeleteResult;
+import com.reliaquest.api.service.EmployeeBulkService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Batch endpoints next to the {@link IEmployeeController} contract. The handlers return a {@link Mono}, so they
+ * serve both execution modes without holding a thread while a batch is in progress.
+ */
+@RestController()
+@RequestMapping("/bulk")
+public class EmployeeBulkController {
+
+    private EmployeeBulkService employeeBulkService;
+
+    public EmployeeBulkController(@Autowired EmployeeBulkService employeeBulkService) {
+        this.employeeBulkService = employeeBulkService;
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<List<BulkCreateResult>>> createEmployees(
+            @RequestBody List<CreateEmployeeRequest> createEmployeeRequests) {
+        return employeeBulkService.saveEmployees(createEmployeeRequests).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping
+    public Mono<ResponseEntity<List<BulkDeleteResult>>> deleteEmployeesByIds(@RequestBody Set<UUID> ids) {
+        return employeeBulkService.deleteByIds(ids).map(ResponseEntity::ok);
+    }
+}
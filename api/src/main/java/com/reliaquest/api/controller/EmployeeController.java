@@ -4,17 +4,21 @@ import com.reliaquest.api.controller.inbound.CreateEmployeeRequest;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.service.EmployeeService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 import java.util.UUID;
 
 @RestController()
+@ConditionalOnProperty(name = "employee.api.execution-mode", havingValue = "blocking", matchIfMissing = true)
 public class EmployeeController implements IEmployeeController<Employee, CreateEmployeeRequest> {
 
     private EmployeeService employeeService;
@@ -30,6 +34,15 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
         return ResponseEntity.ok(listOfEmployees);
     }
 
+    /**
+     * Opt-in streaming representation of {@link #getAllEmployees()} selected with
+     * {@code Accept: application/x-ndjson}; each employee is written and flushed as soon as it is available.
+     */
+    @GetMapping(value = "/", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Employee> streamAllEmployees() {
+        return employeeService.streamAllEmployees();
+    }
+
     @GetMapping("/search/{searchString}")
     @Override
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(String searchString) {
@@ -0,0 +1,80 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.controller.inbound.CreateEmployeeRequest;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reactive adapter for the {@link IEmployeeController} contract: same routes, payloads and status codes, but every
+ * handler returns a {@link Mono} so no thread is held while the upstream call is outstanding. Active when
+ * {@code employee.api.execution-mode=reactive} (see the {@code reactive} profile).
+ */
+@RestController()
+@ConditionalOnProperty(name = "employee.api.execution-mode", havingValue = "reactive")
+public class ReactiveEmployeeController {
+
+    private EmployeeService employeeService;
+
+    public ReactiveEmployeeController(@Autowired EmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @GetMapping("/")
+    public Mono<ResponseEntity<List<Employee>>> getAllEmployees() {
+        return employeeService.getAllEmployeesAsync().map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "/", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Employee> streamAllEmployees() {
+        return employeeService.streamAllEmployees();
+    }
+
+    @GetMapping("/search/{searchString}")
+    public Mono<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(@PathVariable String searchString) {
+        return employeeService.findEmployeeByNameAsync(searchString).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id) {
+        return employeeService.getEmployeeByIdAsync(id).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/highestSalary")
+    public Mono<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        return employeeService.findHighestSalaryOfEmployeeAsync().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public Mono<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        return employeeService.findTopTenEarningEmployeeNamesAsync().map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/")
+    public Mono<ResponseEntity<Employee>> createEmployee(@RequestBody CreateEmployeeRequest createEmployeeRequest) {
+        return employeeService.saveEmployeeAsync(createEmployeeRequest)
+                .map(savedEmployee -> new ResponseEntity<>(savedEmployee, HttpStatus.CREATED));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        return Mono.fromCallable(() -> UUID.fromString(id))
+                .flatMap(employeeService::deleteByIdAsync)
+                .thenReturn(ResponseEntity.ok("Employee Deleted Successfully"));
+    }
+}
@@ -0,0 +1,11 @@
+package com.reliaquest.api.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+public class TooManyBulkItemsException extends RuntimeException{
+    public TooManyBulkItemsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,22 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one item of a bulk create, {@code index} being its position in the request.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkCreateResult(
+        int index,
+        BulkItemStatus status,
+        Employee employee,
+        String error
+) {
+    public static BulkCreateResult created(int index, Employee employee) {
+        return new BulkCreateResult(index, BulkItemStatus.CREATED, employee, null);
+    }
+
+    public static BulkCreateResult failed(int index, Throwable error) {
+        return new BulkCreateResult(index, BulkItemStatus.FAILED, null, error.getMessage());
+    }
+}
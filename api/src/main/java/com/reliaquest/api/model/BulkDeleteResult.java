@@ -0,0 +1,27 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+/**
+ * Outcome of deleting one id of a bulk delete.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkDeleteResult(
+        UUID id,
+        BulkItemStatus status,
+        String error
+) {
+    public static BulkDeleteResult deleted(UUID id) {
+        return new BulkDeleteResult(id, BulkItemStatus.DELETED, null);
+    }
+
+    public static BulkDeleteResult notFound(UUID id) {
+        return new BulkDeleteResult(id, BulkItemStatus.NOT_FOUND, null);
+    }
+
+    public static BulkDeleteResult failed(UUID id, Throwable error) {
+        return new BulkDeleteResult(id, BulkItemStatus.FAILED, error.getMessage());
+    }
+}
@@ -0,0 +1,8 @@
+package com.reliaquest.api.model;
+
+public enum BulkItemStatus {
+    CREATED,
+    DELETED,
+    NOT_FOUND,
+    FAILED
+}
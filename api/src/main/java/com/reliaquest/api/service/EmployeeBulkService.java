@@ -0,0 +1,86 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.controller.inbound.CreateEmployeeRequest;
+import com.reliaquest.api.exception.TooManyBulkItemsException;
+import com.reliaquest.api.model.BulkCreateResult;
+import com.reliaquest.api.model.BulkDeleteResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Batch operations on top of {@link EmployeeService}. Up to {@code employee.bulk.concurrency} upstream calls of a
+ * batch are outstanding at a time; each still goes through the upstream rate limiter, so a batch is paced to the
+ * learned upstream budget rather than sent all at once.
+ */
+@Service
+public class EmployeeBulkService {
+
+    private EmployeeService employeeService;
+    private EmployeeRosterCache employeeRosterCache;
+    private int concurrency;
+    private int maxItems;
+
+    public EmployeeBulkService(@Autowired EmployeeService employeeService,
+                               @Autowired EmployeeRosterCache employeeRosterCache,
+                               @Value("${employee.bulk.concurrency:8}") int concurrency,
+                               @Value("${employee.bulk.max-items:5000}") int maxItems) {
+        this.employeeService = employeeService;
+        this.employeeRosterCache = employeeRosterCache;
+        this.concurrency = concurrency;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * Creates the employees and reports one result per request, in request order. A failed create does not stop
+     * the rest of the batch.
+     */
+    public Mono<List<BulkCreateResult>> saveEmployees(List<CreateEmployeeRequest> createEmployeeRequests) {
+        if (createEmployeeRequests.size() > maxItems) {
+            return Mono.error(tooManyItems());
+        }
+        return Flux.fromIterable(createEmployeeRequests)
+                .index()
+                .flatMapSequential(indexed -> {
+                    int index = indexed.getT1().intValue();
+                    return employeeService.saveEmployeeAsync(indexed.getT2())
+                            .map(employee -> BulkCreateResult.created(index, employee))
+                            .onErrorResume(error -> Mono.just(BulkCreateResult.failed(index, error)));
+                }, concurrency)
+                .collectList();
+    }
+
+    /**
+     * Deletes the employees with the given ids and reports one result per id. All names are resolved from a single
+     * read of the roster snapshot; ids that are not in it are reported as not found without an upstream call.
+     */
+    public Mono<List<BulkDeleteResult>> deleteByIds(Collection<UUID> ids) {
+        if (ids.size() > maxItems) {
+            return Mono.error(tooManyItems());
+        }
+        return employeeRosterCache.currentAsync()
+                .flatMap(snapshot -> Flux.fromIterable(ids)
+                        .flatMapSequential(id -> delete(snapshot, id), concurrency)
+                        .collectList());
+    }
+
+    private Mono<BulkDeleteResult> delete(RosterSnapshot snapshot, UUID id) {
+        return snapshot.findById(id)
+                .map(employee -> employeeService.deleteEmployeeAsync(employee)
+                        .map(deleted -> deleted ? BulkDeleteResult.deleted(id) : BulkDeleteResult.notFound(id))
+                        .onErrorResume(error -> Mono.just(BulkDeleteResult.failed(id, error))))
+                .orElseGet(() -> Mono.just(BulkDeleteResult.notFound(id)));
+    }
+
+    private TooManyBulkItemsException tooManyItems() {
+        return new TooManyBulkItemsException("A bulk request may contain at most " + maxItems + " items.");
+    }
+}
@@ -1,85 +1,221 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeByIdCache;
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
 import com.reliaquest.api.client.EmployeeApiClient;
 import com.reliaquest.api.client.inbound.CreateEmployeeApiRequest;
 import com.reliaquest.api.client.inbound.DeleteEmployeeApiRequest;
 import com.reliaquest.api.client.outbound.EmployeeApiResponse;
 import com.reliaquest.api.controller.inbound.CreateEmployeeRequest;
-import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
 import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
+/**
+ * Every public operation is timed as {@code employee.service.operations}, tagged with the operation name and its
+ * outcome ({@code success}, {@code error} or {@code cancelled}). Compared with {@code employee.upstream.*} this
+ * separates time spent in the upstream from time spent in this service.
+ */
 @Service
 public class EmployeeService {
+    private static final int TOP_EARNERS_LIMIT = 10;
+
     private EmployeeApiClient employeeApiClient;
+    private EmployeeRosterCache employeeRosterCache;
+    private EmployeeByIdCache employeeByIdCache;
+    private MeterRegistry meterRegistry;
 
-    public EmployeeService(@Autowired EmployeeApiClient employeeApiClient) {
+    public EmployeeService(@Autowired EmployeeApiClient employeeApiClient,
+                           @Autowired EmployeeRosterCache employeeRosterCache,
+                           @Autowired EmployeeByIdCache employeeByIdCache,
+                           @Autowired MeterRegistry meterRegistry) {
         this.employeeApiClient = employeeApiClient;
+        this.employeeRosterCache = employeeRosterCache;
+        this.employeeByIdCache = employeeByIdCache;
+        this.meterRegistry = meterRegistry;
     }
 
     public List<Employee> getAllEmployees() {
-        return employeeApiClient.findAllEmployee()
-                .stream()
-                .map(EmployeeApiResponse::toEmployee)
-                .collect(Collectors.toList());
+        return timed("getAllEmployees", () -> employeeRosterCache.current().employees());
     }
 
     public List<Employee> findEmployeeByName(String searchString) {
-       return getAllEmployees()
-               .stream()
-               .filter(employee -> searchString != null &&  searchString.equals(employee.name()))
-               .collect(Collectors.toList());
+        return timed("findEmployeeByName", () -> employeeRosterCache.current().findByName(searchString));
     }
 
+    /**
+     * Looks the employee up in the per-id cache, then the upstream, or in the roster snapshot while the upstream is
+     * unavailable.
+     */
     public Employee getEmployeeById(String id) {
-        UUID employeeId = UUID.fromString(id);
-        EmployeeApiResponse employeeApiResponse = employeeApiClient.findById(employeeId);
-        return employeeApiResponse.toEmployee();
+        return timed("getEmployeeById", () -> {
+            UUID employeeId = UUID.fromString(id);
+            try {
+                return employeeByIdCache.get(employeeId, uuid -> employeeApiClient.findById(uuid).toEmployee());
+            } catch (UpstreamUnavailableException e) {
+                return fromSnapshot(employeeId).orElseThrow(() -> e);
+            }
+        });
     }
 
     public Integer findHighestSalaryOfEmployee() {
-        return getAllEmployees()
-                .stream()
-                .map(Employee::salary)
-                .max(Integer::compareTo)
-                .orElse(0);
+        return timed("findHighestSalaryOfEmployee", () -> employeeRosterCache.current().highestSalary());
     }
 
     public List<String> findTopTenEarningEmployeeNames() {
-       return getAllEmployees()
-               .stream()
-               .sorted(Comparator.comparingInt(Employee::salary).reversed())
-               .map(Employee::name)
-               .limit(10)
-               .collect(Collectors.toList());
+        return timed("findTopTenEarningEmployeeNames",
+                () -> employeeRosterCache.current().topEarningNames(TOP_EARNERS_LIMIT));
     }
 
     public Employee saveEmployee(CreateEmployeeRequest createEmployeeRequest) {
-        CreateEmployeeApiRequest apiRequest = CreateEmployeeApiRequest.from(createEmployeeRequest);
-        EmployeeApiResponse apiResponse = employeeApiClient.createEmployee(apiRequest);
-        return apiResponse.toEmployee();
+        return timed("saveEmployee", () -> {
+            CreateEmployeeApiRequest apiRequest = CreateEmployeeApiRequest.from(createEmployeeRequest);
+            EmployeeApiResponse apiResponse = employeeApiClient.createEmployee(apiRequest);
+            Employee savedEmployee = apiResponse.toEmployee();
+            employeeRosterCache.employeeCreated(savedEmployee);
+            employeeByIdCache.invalidate(savedEmployee.id());
+            return savedEmployee;
+        });
     }
 
     public void deleteById(UUID idOfEmployeeToBeDeleated) {
-        Optional<String> nameOfEmployee = getAllEmployees()
-                .stream()
-                .filter(employee -> employee.id().equals(idOfEmployeeToBeDeleated))
-                .map(employee -> employee.name())
-                .findFirst();
-
-        if(nameOfEmployee.isPresent()) {
-            DeleteEmployeeApiRequest deleteEmployeeApiRequest = new DeleteEmployeeApiRequest(nameOfEmployee.get());
-            employeeApiClient.deleteEmployee(deleteEmployeeApiRequest);
-        }
-        else {
-            throw new EmployeeNotFoundException("Employee with ID " + idOfEmployeeToBeDeleated + "Not Found");
+        timed("deleteById", () -> {
+            Employee employeeToBeDeleted = employeeRosterCache.peek()
+                    .flatMap(snapshot -> snapshot.findById(idOfEmployeeToBeDeleated))
+                    .orElseGet(() -> employeeApiClient.findNameById(idOfEmployeeToBeDeleated).toEmployee());
+
+            DeleteEmployeeApiRequest deleteEmployeeApiRequest = new DeleteEmployeeApiRequest(employeeToBeDeleted.name());
+            if (employeeApiClient.deleteEmployee(deleteEmployeeApiRequest)) {
+                employeeRosterCache.employeeDeleted(employeeToBeDeleted);
+                employeeByIdCache.invalidate(employeeToBeDeleted.id());
+            }
+            return employeeToBeDeleted;
+        });
+    }
+
+    public Mono<List<Employee>> getAllEmployeesAsync() {
+        return timed("getAllEmployees", employeeRosterCache.currentAsync().map(RosterSnapshot::employees));
+    }
+
+    /**
+     * Streams the roster from the loaded snapshot, or straight from the upstream response while the cache is cold,
+     * so that no intermediate list is built for the response.
+     */
+    public Flux<Employee> streamAllEmployees() {
+        return timed("streamAllEmployees", Flux.defer(() -> employeeRosterCache.currentIfLoaded()
+                .map(snapshot -> Flux.fromIterable(snapshot.employees()))
+                .orElseGet(() -> employeeApiClient.streamAllEmployee().map(EmployeeApiResponse::toEmployee))));
+    }
+
+    public Mono<List<Employee>> findEmployeeByNameAsync(String searchString) {
+        return timed("findEmployeeByName",
+                employeeRosterCache.currentAsync().map(snapshot -> snapshot.findByName(searchString)));
+    }
+
+    public Mono<Employee> getEmployeeByIdAsync(String id) {
+        return timed("getEmployeeById", Mono.fromCallable(() -> UUID.fromString(id))
+                .flatMap(employeeId -> employeeByIdCache.getAsync(employeeId, uuid -> employeeApiClient.findByIdAsync(uuid)
+                                .map(EmployeeApiResponse::toEmployee))
+                        .onErrorResume(UpstreamUnavailableException.class, e -> Mono.justOrEmpty(fromSnapshot(employeeId))
+                                .switchIfEmpty(Mono.error(e)))));
+    }
+
+    public Mono<Integer> findHighestSalaryOfEmployeeAsync() {
+        return timed("findHighestSalaryOfEmployee",
+                employeeRosterCache.currentAsync().map(RosterSnapshot::highestSalary));
+    }
+
+    public Mono<List<String>> findTopTenEarningEmployeeNamesAsync() {
+        return timed("findTopTenEarningEmployeeNames",
+                employeeRosterCache.currentAsync().map(snapshot -> snapshot.topEarningNames(TOP_EARNERS_LIMIT)));
+    }
+
+    public Mono<Employee> saveEmployeeAsync(CreateEmployeeRequest createEmployeeRequest) {
+        return timed("saveEmployee", employeeApiClient.createEmployeeAsync(CreateEmployeeApiRequest.from(createEmployeeRequest))
+                .map(EmployeeApiResponse::toEmployee)
+                .doOnNext(savedEmployee -> {
+                    employeeRosterCache.employeeCreated(savedEmployee);
+                    employeeByIdCache.invalidate(savedEmployee.id());
+                }));
+    }
+
+    public Mono<Void> deleteByIdAsync(UUID idOfEmployeeToBeDeleated) {
+        return timed("deleteById", Mono.justOrEmpty(employeeRosterCache.peek()
+                        .flatMap(snapshot -> snapshot.findById(idOfEmployeeToBeDeleated)))
+                .switchIfEmpty(Mono.defer(() -> employeeApiClient.findNameByIdAsync(idOfEmployeeToBeDeleated)
+                        .map(EmployeeApiResponse::toEmployee)))
+                .flatMap(this::deleteEmployeeAsync)
+                .then());
+    }
+
+    /**
+     * Deletes an employee whose name has already been resolved and, once the upstream confirms the delete, applies it
+     * to the roster snapshot. Emits whether the upstream found an employee by that name.
+     */
+    public Mono<Boolean> deleteEmployeeAsync(Employee employeeToBeDeleted) {
+        return employeeApiClient.deleteEmployeeAsync(new DeleteEmployeeApiRequest(employeeToBeDeleted.name()))
+                .doOnSuccess(deleted -> {
+                    if (Boolean.TRUE.equals(deleted)) {
+                        employeeRosterCache.employeeDeleted(employeeToBeDeleted);
+                        employeeByIdCache.invalidate(employeeToBeDeleted.id());
+                    }
+                });
+    }
+
+    private Optional<Employee> fromSnapshot(UUID id) {
+        return employeeRosterCache.peek().flatMap(snapshot -> snapshot.findById(id));
+    }
+
+    private <T> T timed(String operation, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = call.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(operationTimer(operation, outcome));
         }
     }
+
+    private <T> Mono<T> timed(String operation, Mono<T> call) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return call.doFinally(signal -> sample.stop(operationTimer(operation, outcome(signal))));
+        });
+    }
+
+    private <T> Flux<T> timed(String operation, Flux<T> call) {
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return call.doFinally(signal -> sample.stop(operationTimer(operation, outcome(signal))));
+        });
+    }
+
+    private Timer operationTimer(String operation, String outcome) {
+        return Timer.builder("employee.service.operations")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_ERROR -> "error";
+            case CANCEL -> "cancelled";
+            default -> "success";
+        };
+    }
 }
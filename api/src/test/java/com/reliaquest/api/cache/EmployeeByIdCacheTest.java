@@ -0,0 +1,130 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+public class EmployeeByIdCacheTest {
+
+    private final UUID id = UUID.fromString("b888aa78-d601-40a3-81ac-fd536d12dd3a");
+    private final Employee employee = new Employee(id, "Test1", 10, 30, "title", "email");
+
+    private AtomicLong nanos;
+    private SimpleMeterRegistry meterRegistry;
+    private EmployeeByIdCache employeeByIdCache;
+    private AtomicInteger upstreamCalls;
+
+    @BeforeEach
+    public void setup() {
+        nanos = new AtomicLong();
+        meterRegistry = new SimpleMeterRegistry();
+        employeeByIdCache = new EmployeeByIdCache(
+                Duration.ofSeconds(30), Duration.ofSeconds(5), 100, meterRegistry, nanos::get);
+        upstreamCalls = new AtomicInteger();
+    }
+
+    @Test
+    public void shouldServeRepeatedLookupsFromCacheUntilTheyExpire() {
+        Function<UUID, Employee> upstream = uuid -> {
+            upstreamCalls.incrementAndGet();
+            return employee;
+        };
+
+        Assertions.assertThat(employeeByIdCache.get(id, upstream)).isEqualTo(employee);
+        Assertions.assertThat(employeeByIdCache.getAsync(id, uuid -> Mono.error(new IllegalStateException())).block())
+                .isEqualTo(employee);
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        employeeByIdCache.get(id, upstream);
+
+        Assertions.assertThat(upstreamCalls).hasValue(2);
+        Assertions.assertThat(meterRegistry.get("cache.gets").tag("cache", "employee-by-id").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRememberNotFoundForTheShorterNegativeTtl() {
+        Function<UUID, Employee> upstream = uuid -> {
+            upstreamCalls.incrementAndGet();
+            throw new EmployeeNotFoundException("Employee with id " + uuid + " Not found.");
+        };
+
+        Assertions.assertThatThrownBy(() -> employeeByIdCache.get(id, upstream))
+                .isInstanceOf(EmployeeNotFoundException.class);
+        Assertions.assertThatThrownBy(() -> employeeByIdCache.getAsync(id, uuid -> Mono.just(employee)).block())
+                .isInstanceOf(EmployeeNotFoundException.class);
+        nanos.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        Assertions.assertThat(employeeByIdCache.getAsync(id, uuid -> Mono.just(employee)).block()).isEqualTo(employee);
+        Assertions.assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    public void shouldLoadAgainAfterInvalidation() {
+        Function<UUID, Employee> upstream = uuid -> {
+            upstreamCalls.incrementAndGet();
+            throw new EmployeeNotFoundException("Employee with id " + uuid + " Not found.");
+        };
+        Assertions.assertThatThrownBy(() -> employeeByIdCache.get(id, upstream))
+                .isInstanceOf(EmployeeNotFoundException.class);
+
+        employeeByIdCache.invalidate(id);
+
+        Assertions.assertThat(employeeByIdCache.get(id, uuid -> employee)).isEqualTo(employee);
+        Assertions.assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    public void shouldNotCacheALoadThatWasInFlightWhenTheIdWasInvalidated() throws Exception {
+        Employee updated = new Employee(id, "Test1", 20, 30, "title", "email");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+        CompletableFuture<Employee> staleLoad = CompletableFuture.supplyAsync(() -> employeeByIdCache.get(id, uuid -> {
+            loading.countDown();
+            awaitQuietly(invalidated);
+            return employee;
+        }));
+        loading.await();
+
+        employeeByIdCache.invalidate(id);
+        invalidated.countDown();
+
+        Assertions.assertThat(staleLoad.get(5, TimeUnit.SECONDS)).isEqualTo(employee);
+        Assertions.assertThat(employeeByIdCache.get(id, uuid -> updated)).isEqualTo(updated);
+    }
+
+    @Test
+    public void shouldNotCacheAnAsyncLoadThatWasInFlightWhenTheIdWasInvalidated() {
+        Employee updated = new Employee(id, "Test1", 20, 30, "title", "email");
+        Sinks.One<Employee> upstream = Sinks.one();
+        Mono<Employee> staleLoad = employeeByIdCache.getAsync(id, uuid -> upstream.asMono()).cache();
+        staleLoad.subscribe();
+
+        employeeByIdCache.invalidate(id);
+        upstream.tryEmitValue(employee);
+
+        Assertions.assertThat(staleLoad.block()).isEqualTo(employee);
+        Assertions.assertThat(employeeByIdCache.getAsync(id, uuid -> Mono.just(updated)).block()).isEqualTo(updated);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
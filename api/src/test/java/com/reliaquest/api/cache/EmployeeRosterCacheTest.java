@@ -0,0 +1,223 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.client.outbound.EmployeeApiResponse;
+import com.reliaquest.api.model.Employee;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class EmployeeRosterCacheTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    private EmployeeApiClient employeeApiClient;
+    private Clock clock;
+    private List<Runnable> pendingRefreshes;
+    private EmployeeRosterCache employeeRosterCache;
+
+    private final EmployeeApiResponse employee1 = new EmployeeApiResponse(
+            UUID.fromString("b888aa78-d601-40a3-81ac-fd536d12dd3a"), "Test1", 10, 30, "title", "email");
+    private final EmployeeApiResponse employee2 = new EmployeeApiResponse(
+            UUID.fromString("c888aa78-d601-40a3-81ac-fd536d12dd3a"), "Test2", 20, 30, "title", "email");
+
+    @BeforeEach
+    public void setup() {
+        employeeApiClient = Mockito.mock(EmployeeApiClient.class);
+        clock = Mockito.mock(Clock.class);
+        Mockito.when(clock.instant()).thenReturn(START);
+        pendingRefreshes = new ArrayList<>();
+        employeeRosterCache = new EmployeeRosterCache(
+                employeeApiClient, pendingRefreshes::add, Duration.ofSeconds(30), Duration.ofSeconds(5), clock);
+    }
+
+    @Test
+    public void shouldLoadRosterOnFirstReadAndServeSubsequentReadsFromSnapshot() {
+        Mockito.when(employeeApiClient.streamAllEmployee()).thenReturn(Flux.just(employee1));
+
+        employeeRosterCache.current();
+        RosterSnapshot snapshot = employeeRosterCache.current();
+
+        Assertions.assertThat(snapshot.employees()).containsExactly(employee1.toEmployee());
+        Assertions.assertThat(pendingRefreshes).isEmpty();
+        Mockito.verify(employeeApiClient, Mockito.times(1)).streamAllEmployee();
+    }
+
+    @Test
+    public void shouldServeStaleSnapshotWhileRefreshIsInFlight() {
+        Mockito.when(employeeApiClient.streamAllEmployee())
+                .thenReturn(Flux.just(employee1))
+                .thenReturn(Flux.just(employee1, employee2));
+        employeeRosterCache.current();
+
+        Mockito.when(clock.instant()).thenReturn(START.plusSeconds(26));
+        Assertions.assertThat(employeeRosterCache.current().employees()).containsExactly(employee1.toEmployee());
+        Assertions.assertThat(employeeRosterCache.current().employees()).containsExactly(employee1.toEmployee());
+        Assertions.assertThat(pendingRefreshes).hasSize(1);
+
+        pendingRefreshes.get(0).run();
+
+        Assertions.assertThat(employeeRosterCache.current().employees())
+                .containsExactly(employee1.toEmployee(), employee2.toEmployee());
+    }
+
+    @Test
+    public void shouldKeepStaleSnapshotWhenRefreshFails() {
+        Mockito.when(employeeApiClient.streamAllEmployee())
+                .thenReturn(Flux.just(employee1))
+                .thenReturn(Flux.error(WebClientResponseException.create(
+                        429, "Too Many Requests", HttpHeaders.EMPTY, new byte[0], null)));
+        employeeRosterCache.current();
+
+        Mockito.when(clock.instant()).thenReturn(START.plusSeconds(120));
+        employeeRosterCache.current();
+        pendingRefreshes.get(0).run();
+
+        Assertions.assertThat(employeeRosterCache.current().employees()).containsExactly(employee1.toEmployee());
+        Assertions.assertThat(pendingRefreshes).hasSize(2);
+    }
+
+    @Test
+    public void shouldWriteCreatesAndDeletesThroughToTheRoster() {
+        Mockito.when(employeeApiClient.streamAllEmployee()).thenReturn(Flux.just(employee1, employee2));
+        employeeRosterCache.current();
+        Employee created = new Employee(
+                UUID.fromString("d888aa78-d601-40a3-81ac-fd536d12dd3a"), "Test3", 30, 40, "title", "email");
+
+        employeeRosterCache.employeeCreated(created);
+        employeeRosterCache.employeeDeleted(employee1.toEmployee());
+
+        Assertions.assertThat(employeeRosterCache.current().employees())
+                .containsExactly(employee2.toEmployee(), created);
+        Assertions.assertThat(employeeRosterCache.current().findById(created.id())).contains(created);
+        Assertions.assertThat(employeeRosterCache.current().findById(employee1.id())).isEmpty();
+        Assertions.assertThat(pendingRefreshes).isEmpty();
+        Mockito.verify(employeeApiClient, Mockito.times(1)).streamAllEmployee();
+    }
+
+    @Test
+    public void shouldReplayWritesMadeWhileARefreshIsInFlight() throws InterruptedException {
+        Sinks.Many<EmployeeApiResponse> upstream = Sinks.many().unicast().onBackpressureBuffer();
+        Mockito.when(employeeApiClient.streamAllEmployee())
+                .thenReturn(Flux.just(employee1))
+                .thenReturn(upstream.asFlux());
+        employeeRosterCache.current();
+        Mockito.when(clock.instant()).thenReturn(START.plusSeconds(26));
+        employeeRosterCache.current();
+        Thread refresh = new Thread(pendingRefreshes.get(0));
+        refresh.start();
+        while (upstream.currentSubscriberCount() == 0) {
+            Thread.sleep(1);
+        }
+        Employee created = new Employee(
+                UUID.fromString("d888aa78-d601-40a3-81ac-fd536d12dd3a"), "Test3", 30, 40, "title", "email");
+
+        employeeRosterCache.employeeCreated(created);
+        upstream.tryEmitNext(employee1);
+        upstream.tryEmitComplete();
+        refresh.join();
+
+        Assertions.assertThat(employeeRosterCache.current().employees())
+                .containsExactly(employee1.toEmployee(), created);
+        Assertions.assertThat(employeeRosterCache.current().highestSalary()).isEqualTo(30);
+    }
+
+    @Test
+    public void shouldKeepNameIndexInSyncWithLocalCreatesAndDeletes() {
+        Mockito.when(employeeApiClient.streamAllEmployee()).thenReturn(Flux.just(employee1));
+        employeeRosterCache.current();
+        Employee created = new Employee(
+                UUID.fromString("d888aa78-d601-40a3-81ac-fd536d12dd3a"), "Test1", 30, 40, "title", "email");
+
+        employeeRosterCache.employeeCreated(created);
+        Assertions.assertThat(employeeRosterCache.current().findByName("Test1"))
+                .containsExactly(employee1.toEmployee(), created);
+
+        employeeRosterCache.employeeDeleted(employee1.toEmployee());
+        Assertions.assertThat(employeeRosterCache.current().findByName("Test1")).containsExactly(created);
+        Assertions.assertThat(employeeRosterCache.current().findByName("Test2")).isEmpty();
+    }
+
+    @Test
+    public void shouldKeepSalaryAggregatesInSyncWithLocalCreatesAndDeletes() {
+        Mockito.when(employeeApiClient.streamAllEmployee()).thenReturn(Flux.just(employee1, employee2));
+        employeeRosterCache.current();
+        Employee created = new Employee(
+                UUID.fromString("d888aa78-d601-40a3-81ac-fd536d12dd3a"), "Test3", 30, 40, "title", "email");
+
+        employeeRosterCache.employeeCreated(created);
+        Assertions.assertThat(employeeRosterCache.current().highestSalary()).isEqualTo(30);
+        Assertions.assertThat(employeeRosterCache.current().topEarningNames(2)).containsExactly("Test3", "Test2");
+
+        employeeRosterCache.employeeDeleted(created);
+        employeeRosterCache.employeeDeleted(employee2.toEmployee());
+        Assertions.assertThat(employeeRosterCache.current().highestSalary()).isEqualTo(10);
+        Assertions.assertThat(employeeRosterCache.current().topEarningNames(2)).containsExactly("Test1");
+    }
+
+    @Test
+    public void shouldLoadColdRosterWithoutBlocking() {
+        Mockito.when(employeeApiClient.streamAllEmployee()).thenReturn(Flux.just(employee1));
+
+        RosterSnapshot snapshot = employeeRosterCache.currentAsync().block();
+
+        Assertions.assertThat(snapshot.employees()).containsExactly(employee1.toEmployee());
+        Assertions.assertThat(employeeRosterCache.current()).isSameAs(snapshot);
+    }
+
+    @Test
+    public void shouldShareOneUpstreamRequestBetweenConcurrentColdReaders() {
+        Sinks.Many<EmployeeApiResponse> upstream = Sinks.many().unicast().onBackpressureBuffer();
+        Mockito.when(employeeApiClient.streamAllEmployee()).thenReturn(upstream.asFlux());
+        List<RosterSnapshot> snapshots = new ArrayList<>();
+
+        employeeRosterCache.currentAsync().subscribe(snapshots::add);
+        employeeRosterCache.currentAsync().subscribe(snapshots::add);
+        upstream.tryEmitNext(employee1);
+        upstream.tryEmitComplete();
+
+        Assertions.assertThat(snapshots).hasSize(2);
+        Assertions.assertThat(snapshots.get(0)).isSameAs(snapshots.get(1));
+        Mockito.verify(employeeApiClient, Mockito.times(1)).streamAllEmployee();
+    }
+
+    @Test
+    public void shouldServePersistedRosterAtStartupWhileRefreshingInBackground(@TempDir Path directory)
+            throws IOException {
+        RosterSnapshotStore store = new RosterSnapshotStore(directory.resolve("roster.snapshot").toString());
+        store.save(RosterSnapshot.of(List.of(employee1.toEmployee()), START.minusSeconds(3600)));
+        Mockito.when(employeeApiClient.streamAllEmployee()).thenReturn(Flux.just(employee1, employee2));
+        employeeRosterCache = new EmployeeRosterCache(
+                employeeApiClient, pendingRefreshes::add, Duration.ofSeconds(30), Duration.ofSeconds(5), clock, store);
+
+        employeeRosterCache.restorePersistedSnapshot();
+
+        Assertions.assertThat(employeeRosterCache.current().employees()).containsExactly(employee1.toEmployee());
+        Mockito.verify(employeeApiClient, Mockito.never()).streamAllEmployee();
+        Assertions.assertThat(pendingRefreshes).hasSize(1);
+
+        pendingRefreshes.remove(0).run();
+
+        Assertions.assertThat(employeeRosterCache.current().employees())
+                .containsExactly(employee1.toEmployee(), employee2.toEmployee());
+        Assertions.assertThat(pendingRefreshes).hasSize(1);
+        pendingRefreshes.remove(0).run();
+        Assertions.assertThat(store.load().orElseThrow().employees())
+                .containsExactly(employee1.toEmployee(), employee2.toEmployee());
+    }
+}
@@ -0,0 +1,80 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+public class RosterSnapshotStoreTest {
+
+    private static final Instant LOADED_AT = Instant.parse("2024-01-01T00:00:00Z");
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void shouldRoundTripRosterThroughFile() throws IOException {
+        RosterSnapshotStore store = new RosterSnapshotStore(directory.resolve("roster.snapshot").toString());
+        List<Employee> employees = List.of(
+                new Employee(UUID.fromString("b888aa78-d601-40a3-81ac-fd536d12dd3a"),
+                        "Zoë Ångström", 10, 30, "title", "zoe@company.com"),
+                new Employee(UUID.fromString("c888aa78-d601-40a3-81ac-fd536d12dd3a"),
+                        null, null, 40, null, null));
+
+        store.save(RosterSnapshot.of(employees, LOADED_AT));
+        RosterSnapshot restored = store.load().orElseThrow();
+
+        Assertions.assertThat(restored.employees()).containsExactlyElementsOf(employees);
+        Assertions.assertThat(restored.loadedAt()).isEqualTo(LOADED_AT);
+        Assertions.assertThat(restored.findByName("Zoë Ångström")).containsExactly(employees.get(0));
+        Assertions.assertThat(restored.highestSalary()).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldReplacePreviouslySavedRoster() throws IOException {
+        RosterSnapshotStore store = new RosterSnapshotStore(directory.resolve("roster.snapshot").toString());
+        Employee employee = new Employee(UUID.randomUUID(), "Test1", 10, 30, "title", "email");
+
+        store.save(RosterSnapshot.of(List.of(employee, employee), LOADED_AT));
+        store.save(RosterSnapshot.of(List.of(employee), LOADED_AT.plusSeconds(60)));
+
+        Assertions.assertThat(store.load().orElseThrow().employees()).containsExactly(employee);
+        try (var files = Files.list(directory)) {
+            Assertions.assertThat(files).hasSize(1);
+        }
+    }
+
+    @Test
+    public void shouldIgnoreMissingOrCorruptFile() throws IOException {
+        Path file = directory.resolve("roster.snapshot");
+        RosterSnapshotStore store = new RosterSnapshotStore(file.toString());
+        Assertions.assertThat(store.load()).isEmpty();
+
+        store.save(RosterSnapshot.of(
+                List.of(new Employee(UUID.randomUUID(), "Test1", 10, 30, "title", "email")), LOADED_AT));
+        byte[] content = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(content, content.length - 5));
+        Assertions.assertThat(store.load()).isEmpty();
+
+        Files.writeString(file, "not a roster snapshot");
+        Assertions.assertThat(store.load()).isEmpty();
+    }
+
+    @Test
+    public void shouldDoNothingWhenDisabled() throws IOException {
+        RosterSnapshotStore store = new RosterSnapshotStore("");
+
+        store.save(RosterSnapshot.of(List.of(), LOADED_AT));
+
+        Assertions.assertThat(store.isEnabled()).isFalse();
+        Assertions.assertThat(store.load()).isEmpty();
+    }
+}
@@ -0,0 +1,59 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public class RosterSnapshotTest {
+
+    private static final Instant LOADED_AT = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Employee EXISTING = new Employee(
+            UUID.fromString("b888aa78-d601-40a3-81ac-fd536d12dd3a"), "Test1", 10, 30, "title", "email");
+    private static final Employee CREATED = new Employee(
+            UUID.fromString("c888aa78-d601-40a3-81ac-fd536d12dd3a"), "Test1", 20, 30, "title", "email");
+
+    @Test
+    public void shouldLeaveThePreviousSnapshotUnchangedWhenAnEmployeeIsAdded() {
+        RosterSnapshot previous = RosterSnapshot.of(List.of(EXISTING), LOADED_AT);
+
+        RosterSnapshot updated = previous.withEmployeeAdded(CREATED);
+
+        Assertions.assertThat(updated.employees()).containsExactly(EXISTING, CREATED);
+        Assertions.assertThat(updated.findByName("Test1")).containsExactly(EXISTING, CREATED);
+        Assertions.assertThat(updated.findById(CREATED.id())).contains(CREATED);
+        Assertions.assertThat(updated.highestSalary()).isEqualTo(20);
+        Assertions.assertThat(previous.employees()).containsExactly(EXISTING);
+        Assertions.assertThat(previous.findByName("Test1")).containsExactly(EXISTING);
+        Assertions.assertThat(previous.findById(CREATED.id())).isEmpty();
+        Assertions.assertThat(previous.highestSalary()).isEqualTo(10);
+        Assertions.assertThat(previous.topEarningNames(10)).containsExactly("Test1");
+    }
+
+    @Test
+    public void shouldLeaveThePreviousSnapshotUnchangedWhenAnEmployeeIsRemoved() {
+        RosterSnapshot previous = RosterSnapshot.of(List.of(EXISTING, CREATED), LOADED_AT);
+
+        RosterSnapshot updated = previous.withEmployeeRemoved(CREATED);
+
+        Assertions.assertThat(updated.employees()).containsExactly(EXISTING);
+        Assertions.assertThat(updated.findByName("Test1")).containsExactly(EXISTING);
+        Assertions.assertThat(updated.findById(CREATED.id())).isEmpty();
+        Assertions.assertThat(updated.highestSalary()).isEqualTo(10);
+        Assertions.assertThat(previous.employees()).containsExactly(EXISTING, CREATED);
+        Assertions.assertThat(previous.findByName("Test1")).containsExactly(EXISTING, CREATED);
+        Assertions.assertThat(previous.findById(CREATED.id())).contains(CREATED);
+        Assertions.assertThat(previous.highestSalary()).isEqualTo(20);
+    }
+
+    @Test
+    public void shouldReturnTheSameSnapshotForWritesThatChangeNothing() {
+        RosterSnapshot snapshot = RosterSnapshot.of(List.of(EXISTING), LOADED_AT);
+
+        Assertions.assertThat(snapshot.withEmployeeAdded(EXISTING)).isSameAs(snapshot);
+        Assertions.assertThat(snapshot.withEmployeeRemoved(CREATED)).isSameAs(snapshot);
+    }
+}
@@ -5,27 +5,47 @@ import com.reliaquest.api.client.inbound.DeleteEmployeeApiRequest;
 import com.reliaquest.api.client.outbound.EmployeeApiResponse;
 import com.reliaquest.api.config.EmployeeServiceConfig;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.mockserver.integration.ClientAndServer;
+import org.mockserver.matchers.Times;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
 import org.mockserver.model.JsonBody;
 import org.mockserver.model.MediaType;
+import org.mockserver.verify.VerificationTimes;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
 @SpringBootTest(classes = {
         EmployeeApiClient.class,
-        EmployeeServiceConfig.class})
-@TestPropertySource(properties = "EMPLOYEE_SERVICE_BASE_PATH=http://localhost:5353")
+        UpstreamRateLimiter.class,
+        EmployeeServiceConfig.class,
+        SimpleMeterRegistry.class})
+@TestPropertySource(properties = {
+        "EMPLOYEE_SERVICE_BASE_PATH=http://localhost:5353",
+        "employee.upstream.rate-limit.probe-interval=PT0.1S",
+        "employee.upstream.retry.min-backoff=PT0.05S"})
 public class EmployeeApiClientIntegrationTest {
 
     private static ClientAndServer mockServer;
@@ -33,6 +53,9 @@ public class EmployeeApiClientIntegrationTest {
     @Autowired
     private EmployeeApiClient employeeApiClient;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @BeforeAll
     static public void setupMockServer() {
         mockServer = new ClientAndServer(5353);
@@ -195,6 +218,34 @@ public class EmployeeApiClientIntegrationTest {
                 );
     }
 
+    @Test
+    void shouldRequestOnlyIdAndNameWhenResolvingTheNameOfAnEmployee() {
+        mockServer.when(HttpRequest.request()
+                .withMethod("GET")
+                .withPath("/api/v1/employee/e50c4c20-88bb-43b3-87a9-aab952916a76")
+                .withQueryStringParameter("fields", "id,employee_name")
+        ).respond(HttpResponse.response()
+                .withStatusCode(200)
+                .withContentType(MediaType.APPLICATION_JSON)
+                .withBody(JsonBody.json(
+                            "{\n" +
+                                    "    \"data\": {\n" +
+                                    "        \"id\": \"e50c4c20-88bb-43b3-87a9-aab952916a76\",\n" +
+                                    "        \"employee_name\": \"Scotty Frami DDS\"\n" +
+                                    "    },\n" +
+                                    "    \"status\": \"Successfully processed request.\"\n" +
+                                    "}"
+                        )
+                )
+        );
+
+        UUID id = UUID.fromString("e50c4c20-88bb-43b3-87a9-aab952916a76");
+        EmployeeApiResponse employeeApiResponse = employeeApiClient.findNameById(id);
+
+        Assertions.assertThat(employeeApiResponse)
+                .isEqualTo(new EmployeeApiResponse(id, "Scotty Frami DDS", null, null, null, null));
+    }
+
     @Test
     void shouldThrowEmployeeNotFoundExceptionWhenEmployeeNotPresent() {
         mockServer.when(HttpRequest.request()
@@ -241,4 +292,245 @@ public class EmployeeApiClientIntegrationTest {
         Assertions.assertThat(deleted).isTrue();
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldQueueAndRetryRequestWhenUpstreamIsThrottling() {
+        mockServer.when(HttpRequest.request()
+                .withMethod("GET")
+                .withPath("/api/v1/employee"), Times.once()
+        ).respond(HttpResponse.response()
+                .withStatusCode(429)
+        );
+        mockServer.when(HttpRequest.request()
+                .withMethod("GET")
+                .withPath("/api/v1/employee")
+        ).respond(HttpResponse.response()
+                .withStatusCode(200)
+                .withContentType(MediaType.APPLICATION_JSON)
+                .withBody(JsonBody.json(
+                        "{\n" +
+                                "    \"data\": [],\n" +
+                                "    \"status\": \"Successfully processed request.\"" +
+                                "}"
+                        )
+                )
+        );
+
+        List<EmployeeApiResponse> allEmployee = employeeApiClient.findAllEmployee();
+
+        Assertions.assertThat(allEmployee).isEmpty();
+        mockServer.verify(HttpRequest.request().withMethod("GET").withPath("/api/v1/employee"), VerificationTimes.exactly(2));
+    }
+
+    @Test
+    void shouldNegotiateCompressedResponses() {
+        mockServer.when(HttpRequest.request()
+                .withMethod("GET")
+                .withPath("/api/v1/employee")
+        ).respond(HttpResponse.response()
+                .withStatusCode(200)
+                .withContentType(MediaType.APPLICATION_JSON)
+                .withBody(JsonBody.json(
+                        "{\n" +
+                                "    \"data\": [],\n" +
+                                "    \"status\": \"Successfully processed request.\"" +
+                                "}"
+                        )
+                )
+        );
+
+        employeeApiClient.findAllEmployee();
+
+        mockServer.verify(HttpRequest.request()
+                .withMethod("GET")
+                .withPath("/api/v1/employee")
+                .withHeader("Accept-Encoding", ".*gzip.*"));
+    }
+
+    @Test
+    void shouldStreamRosterLargerThanTheCodecInMemoryLimit() {
+        StringBuilder body = new StringBuilder("{\"data\": [");
+        for (int i = 0; i < 5000; i++) {
+            body.append(i == 0 ? "" : ",")
+                    .append("{\"id\": \"").append(new UUID(0, i))
+                    .append("\", \"employee_name\": \"Employee ").append(i)
+                    .append("\", \"employee_salary\": ").append(i)
+                    .append(", \"employee_age\": 30, \"employee_title\": \"Title\", \"employee_email\": \"e")
+                    .append(i).append("@company.com\"}");
+        }
+        body.append("], \"status\": \"Successfully processed request.\"}");
+        mockServer.when(HttpRequest.request()
+                .withMethod("GET")
+                .withPath("/api/v1/employee")
+        ).respond(HttpResponse.response()
+                .withStatusCode(200)
+                .withContentType(MediaType.APPLICATION_JSON)
+                .withBody(body.toString())
+        );
+
+        Long streamed = employeeApiClient.streamAllEmployee().count().block();
+
+        Assertions.assertThat(body.length()).isGreaterThan(256 * 1024);
+        Assertions.assertThat(streamed).isEqualTo(5000);
+    }
+
+    @Test
+    void shouldStreamRosterPageByPageFollowingTheNextCursor() {
+        mockServer.when(HttpRequest.request()
+                .withMethod("GET")
+                .withPath("/api/v1/employee")
+                .withQueryStringParameter("limit", "2")
+                .withQueryStringParameter("cursor", "2")
+        ).respond(HttpResponse.response()
+                .withStatusCode(200)
+                .withContentType(MediaType.APPLICATION_JSON)
+                .withBody(rosterPage(2, 1))
+        );
+        mockServer.when(HttpRequest.request()
+                .withMethod("GET")
+                .withPath("/api/v1/employee")
+                .withQueryStringParameter("limit", "2")
+        ).respond(HttpResponse.response()
+                .withStatusCode(200)
+                .withContentType(MediaType.APPLICATION_JSON)
+                .withHeader("X-Next-Cursor", "2")
+                .withBody(rosterPage(0, 2))
+        );
+
+        List<EmployeeApiResponse> streamed = employeeApiClient.streamAllEmployeePages(2).collectList().block();
+
+        Assertions.assertThat(streamed).extracting(EmployeeApiResponse::name)
+                .containsExactly("Employee 0", "Employee 1", "Employee 2");
+        mockServer.verify(HttpRequest.request()
+                .withMethod("GET")
+                .withPath("/api/v1/employee"), VerificationTimes.exactly(2));
+    }
+
+    @Test
+    void shouldRecordUpstreamMetricsByUriTemplateAndStatus() {
+        mockServer.when(HttpRequest.request()
+                .withMethod("GET")
+                .withPath("/api/v1/employee/.*")
+        ).respond(HttpResponse.response()
+                .withStatusCode(404)
+                .withContentType(MediaType.APPLICATION_JSON)
+                .withBody("{\"status\": \"Not found\"}")
+        );
+        double notFoundBefore = upstreamErrors("404");
+
+        Assertions.assertThatThrownBy(() -> employeeApiClient.findById(UUID.randomUUID()))
+                .isInstanceOf(EmployeeNotFoundException.class);
+        Assertions.assertThatThrownBy(() -> employeeApiClient.findById(UUID.randomUUID()))
+                .isInstanceOf(EmployeeNotFoundException.class);
+
+        Assertions.assertThat(upstreamErrors("404") - notFoundBefore).isEqualTo(2);
+        Assertions.assertThat(meterRegistry.get("employee.upstream.requests")
+                        .tag("method", "GET")
+                        .tag("uri", "/api/v1/employee/{id}")
+                        .tag("status", "404")
+                        .timer()
+                        .count())
+                .isGreaterThanOrEqualTo(2);
+        Assertions.assertThat(meterRegistry.get("employee.upstream.received")
+                        .tag("uri", "/api/v1/employee/{id}")
+                        .counter()
+                        .count())
+                .isPositive();
+        Assertions.assertThat(meterRegistry.get("employee.upstream.in-flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DirtiesContext
+    void shouldFailFastOnceTheCircuitForAnOperationIsOpen() {
+        mockServer.when(HttpRequest.request()
+                .withMethod("POST")
+                .withPath("/api/v1/employee")
+        ).respond(HttpResponse.response()
+                .withStatusCode(503)
+        );
+        CreateEmployeeApiRequest request = new CreateEmployeeApiRequest("Test Employee", 10000, 22, "Test");
+
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertThatThrownBy(() -> employeeApiClient.createEmployee(request))
+                    .isInstanceOf(WebClientResponseException.class);
+        }
+
+        Assertions.assertThatThrownBy(() -> employeeApiClient.createEmployee(request))
+                .isInstanceOf(UpstreamUnavailableException.class)
+                .hasCauseInstanceOf(CallNotPermittedException.class);
+        mockServer.verify(HttpRequest.request().withMethod("POST").withPath("/api/v1/employee"),
+                VerificationTimes.exactly(5));
+    }
+
+    @Test
+    void shouldNotCountTheWaitForARateLimitPermitAsASlowUpstreamCall() {
+        mockServer.when(HttpRequest.request()
+                .withMethod("GET")
+                .withPath("/api/v1/employee/.*")
+        ).respond(HttpResponse.response()
+                .withStatusCode(200)
+                .withContentType(MediaType.APPLICATION_JSON)
+                .withBody(JsonBody.json(
+                        "{\n" +
+                                "    \"data\": {\n" +
+                                "        \"id\": \"e50c4c20-88bb-43b3-87a9-aab952916a76\",\n" +
+                                "        \"employee_name\": \"Scotty Frami DDS\",\n" +
+                                "        \"employee_salary\": 381603,\n" +
+                                "        \"employee_age\": 63,\n" +
+                                "        \"employee_title\": \"Administration Facilitator\",\n" +
+                                "        \"employee_email\": \"tickleme_pink@company.com\"\n" +
+                                "    },\n" +
+                                "    \"status\": \"Successfully processed request.\"\n" +
+                                "}"
+                        )
+                )
+        );
+        UpstreamRateLimiter slowRateLimiter = Mockito.mock(UpstreamRateLimiter.class);
+        Mockito.when(slowRateLimiter.reserve()).thenReturn(Duration.ofMillis(500));
+        CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slowCallDurationThreshold(Duration.ofMillis(250))
+                .slowCallRateThreshold(100)
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .build());
+        EmployeeApiClient client = new EmployeeApiClient(
+                WebClient.create("http://localhost:5353"),
+                slowRateLimiter,
+                circuitBreakers,
+                Bulkhead.ofDefaults("test"),
+                0,
+                Duration.ofMillis(50),
+                Duration.ofMillis(50));
+
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertThat(client.findById(UUID.randomUUID()).name()).isEqualTo("Scotty Frami DDS");
+        }
+
+        CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker("get-by-id");
+        Assertions.assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        Assertions.assertThat(circuitBreaker.getMetrics().getNumberOfSlowCalls()).isZero();
+        Mockito.verify(slowRateLimiter, Mockito.times(3)).reserve();
+    }
+
+    private double upstreamErrors(String status) {
+        return meterRegistry.find("employee.upstream.errors")
+                .tag("uri", "/api/v1/employee/{id}")
+                .tag("status", status)
+                .counters()
+                .stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    private static String rosterPage(int from, int size) {
+        StringBuilder body = new StringBuilder("{\"data\": [");
+        for (int i = from; i < from + size; i++) {
+            body.append(i == from ? "" : ",")
+                    .append("{\"id\": \"").append(new UUID(0, i))
+                    .append("\", \"employee_name\": \"Employee ").append(i)
+                    .append("\", \"employee_salary\": ").append(i)
+                    .append(", \"employee_age\": 30, \"employee_title\": \"Title\", \"employee_email\": \"e")
+                    .append(i).append("@company.com\"}");
+        }
+        return body.append("], \"status\": \"Successfully processed request.\"}").toString();
+    }
+}
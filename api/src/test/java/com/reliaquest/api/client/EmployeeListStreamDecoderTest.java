@@ -0,0 +1,93 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.client.outbound.EmployeeApiResponse;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class EmployeeListStreamDecoderTest {
+
+    private final EmployeeListStreamDecoder decoder = new EmployeeListStreamDecoder();
+
+    @Test
+    public void shouldDecodeDataElementsAcrossArbitraryChunkBoundaries() {
+        String body = "{\n" +
+                "    \"status\": \"Successfully processed request.\",\n" +
+                "    \"data\": [\n" +
+                "        {\n" +
+                "            \"id\": \"e50c4c20-88bb-43b3-87a9-aab952916a76\",\n" +
+                "            \"employee_name\": \"Scotty Frami DDS\",\n" +
+                "            \"employee_salary\": 381603,\n" +
+                "            \"employee_age\": 63,\n" +
+                "            \"employee_title\": \"Administration Facilitator\",\n" +
+                "            \"employee_email\": \"tickleme_pink@company.com\"\n" +
+                "        },\n" +
+                "        null,\n" +
+                "        {\n" +
+                "            \"id\": \"ad0cb745-1c7a-4682-a99a-8bcaa6793c35\",\n" +
+                "            \"employee_name\": \"Russell DuBuque V\",\n" +
+                "            \"employee_salary\": 259185,\n" +
+                "            \"employee_age\": 43,\n" +
+                "            \"employee_title\": \"National Real-Estate Producer\",\n" +
+                "            \"employee_email\": \"magik_mike@company.com\"\n" +
+                "        }\n" +
+                "    ]\n" +
+                "}";
+
+        List<EmployeeApiResponse> decoded = decoder.decode(chunked(body, 7)).collectList().block();
+
+        Assertions.assertThat(decoded).containsExactly(
+                new EmployeeApiResponse(
+                        UUID.fromString("e50c4c20-88bb-43b3-87a9-aab952916a76"),
+                        "Scotty Frami DDS",
+                        381603,
+                        63,
+                        "Administration Facilitator",
+                        "tickleme_pink@company.com"),
+                new EmployeeApiResponse(
+                        UUID.fromString("ad0cb745-1c7a-4682-a99a-8bcaa6793c35"),
+                        "Russell DuBuque V",
+                        259185,
+                        43,
+                        "National Real-Estate Producer",
+                        "magik_mike@company.com")
+        );
+    }
+
+    @Test
+    public void shouldDecodeEmptyList() {
+        List<EmployeeApiResponse> decoded = decoder
+                .decode(chunked("{\"data\": [], \"status\": \"Successfully processed request.\"}", 4))
+                .collectList()
+                .block();
+
+        Assertions.assertThat(decoded).isEmpty();
+    }
+
+    @Test
+    public void shouldFailOnTruncatedResponse() {
+        Flux<EmployeeApiResponse> decoded = decoder.decode(chunked("{\"data\": [{\"id\": \"e50c4c20", 5));
+
+        Assertions.assertThatThrownBy(decoded::blockLast).isInstanceOf(DecodingException.class);
+    }
+
+    private static Flux<DataBuffer> chunked(String body, int chunkSize) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> chunks = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+            int length = Math.min(chunkSize, bytes.length - offset);
+            byte[] chunk = new byte[length];
+            System.arraycopy(bytes, offset, chunk, 0, length);
+            chunks.add(DefaultDataBufferFactory.sharedInstance.wrap(chunk));
+        }
+        return Flux.fromIterable(chunks);
+    }
+}
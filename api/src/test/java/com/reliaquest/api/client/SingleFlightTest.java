@@ -0,0 +1,62 @@
+package com.reliaquest.api.client;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    public void shouldShareOneInFlightCallBetweenConcurrentCallersOfTheSameKey() {
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<String> upstream = Sinks.one();
+        List<String> results = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            singleFlight.execute("key", () -> {
+                calls.incrementAndGet();
+                return upstream.asMono();
+            }).subscribe(results::add);
+        }
+        upstream.tryEmitValue("value");
+
+        Assertions.assertThat(calls).hasValue(1);
+        Assertions.assertThat(results).containsExactly("value", "value", "value", "value", "value");
+        Assertions.assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    public void shouldStartAFreshCallOnceThePreviousOneCompleted() {
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute("key", () -> Mono.just("first-" + calls.incrementAndGet())).block();
+        String second = singleFlight.execute("key", () -> Mono.just("second-" + calls.incrementAndGet())).block();
+
+        Assertions.assertThat(second).isEqualTo("second-2");
+    }
+
+    @Test
+    public void shouldNotShareCallsBetweenDifferentKeys() {
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<String> upstream = Sinks.one();
+
+        singleFlight.execute("first", () -> {
+            calls.incrementAndGet();
+            return upstream.asMono();
+        }).subscribe();
+        singleFlight.execute("second", () -> {
+            calls.incrementAndGet();
+            return upstream.asMono();
+        }).subscribe();
+
+        Assertions.assertThat(calls).hasValue(2);
+        Assertions.assertThat(singleFlight.inFlightCount()).isEqualTo(2);
+    }
+}
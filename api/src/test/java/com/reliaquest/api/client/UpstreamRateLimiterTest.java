@@ -0,0 +1,70 @@
+package com.reliaquest.api.client;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+public class UpstreamRateLimiterTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    private Clock clock;
+    private UpstreamRateLimiter upstreamRateLimiter;
+
+    @BeforeEach
+    public void setup() {
+        clock = Mockito.mock(Clock.class);
+        Mockito.when(clock.instant()).thenReturn(START);
+        upstreamRateLimiter = new UpstreamRateLimiter(Duration.ofSeconds(5), clock);
+    }
+
+    @Test
+    public void shouldNotDelayRequestsBeforeAnyThrottling() {
+        for (int i = 0; i < 20; i++) {
+            Assertions.assertThat(upstreamRateLimiter.reserve()).isZero();
+            upstreamRateLimiter.onAdmitted();
+        }
+    }
+
+    @Test
+    public void shouldLearnLimitAndWindowFromThrottlingAndNeverExceedThem() {
+        admit(3);
+        upstreamRateLimiter.reserve();
+        upstreamRateLimiter.onThrottled(null);
+
+        Assertions.assertThat(upstreamRateLimiter.learnedLimit()).isEqualTo(3);
+        Assertions.assertThat(upstreamRateLimiter.reserve()).isEqualTo(Duration.ofSeconds(5));
+
+        Mockito.when(clock.instant()).thenReturn(START.plusSeconds(40));
+        upstreamRateLimiter.onAdmitted();
+        Assertions.assertThat(upstreamRateLimiter.learnedWindow()).isEqualTo(Duration.ofSeconds(40));
+
+        Assertions.assertThat(upstreamRateLimiter.reserve()).isZero();
+        Assertions.assertThat(upstreamRateLimiter.reserve()).isZero();
+        Assertions.assertThat(upstreamRateLimiter.reserve()).isEqualTo(Duration.ofSeconds(40));
+        Assertions.assertThat(upstreamRateLimiter.reserve()).isEqualTo(Duration.ofSeconds(40));
+        Assertions.assertThat(upstreamRateLimiter.reserve()).isEqualTo(Duration.ofSeconds(40));
+        Assertions.assertThat(upstreamRateLimiter.reserve()).isEqualTo(Duration.ofSeconds(80));
+    }
+
+    @Test
+    public void shouldHonourRetryAfterHint() {
+        admit(2);
+        upstreamRateLimiter.onThrottled(Duration.ofSeconds(30));
+
+        Assertions.assertThat(upstreamRateLimiter.learnedWindow()).isEqualTo(Duration.ofSeconds(30));
+        Assertions.assertThat(upstreamRateLimiter.reserve()).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    private void admit(int requests) {
+        for (int i = 0; i < requests; i++) {
+            upstreamRateLimiter.reserve();
+            upstreamRateLimiter.onAdmitted();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.controller.inbound.CreateEmployeeRequest;
+import com.reliaquest.api.model.BulkCreateResult;
+import com.reliaquest.api.model.BulkDeleteResult;
+import com.reliaquest.api.model.BulkItemStatus;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeBulkService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(EmployeeBulkController.class)
+public class EmployeeBulkControllerIntegrationTest {
+
+    @MockBean
+    private EmployeeBulkService employeeBulkService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void shouldCreateEmployeesInBulk() throws Exception {
+        Mockito.when(employeeBulkService.saveEmployees(List.of(
+                new CreateEmployeeRequest("test-1", 10, 30, "HOD"),
+                new CreateEmployeeRequest("test-2", 20, 30, "HOD")
+        ))).thenReturn(Mono.just(List.of(
+                BulkCreateResult.created(0, new Employee(
+                        UUID.fromString("b888aa78-d601-40a3-81ac-fd536d12dd3a"),
+                        "test-1",
+                        10,
+                        30,
+                        "HOD",
+                        "test1@gmail.com")),
+                new BulkCreateResult(1, BulkItemStatus.FAILED, null, "503 Service Unavailable")
+        )));
+
+        MvcResult result = mockMvc.perform(post("/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"name\": \"test-1\", \"salary\": 10, \"age\": 30, \"title\": \"HOD\"}," +
+                                "{\"name\": \"test-2\", \"salary\": 20, \"age\": 30, \"title\": \"HOD\"}]"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].index").value(0))
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[0].employee.id").value("b888aa78-d601-40a3-81ac-fd536d12dd3a"))
+                .andExpect(jsonPath("$[0].error").doesNotExist())
+                .andExpect(jsonPath("$[1].index").value(1))
+                .andExpect(jsonPath("$[1].status").value("FAILED"))
+                .andExpect(jsonPath("$[1].error").value("503 Service Unavailable"));
+    }
+
+    @Test
+    public void shouldDeleteEmployeesInBulk() throws Exception {
+        UUID deleted = UUID.fromString("b888aa78-d601-40a3-81ac-fd536d12dd3a");
+        UUID unknown = UUID.fromString("c888aa78-d601-40a3-81ac-fd536d12dd3a");
+        Mockito.when(employeeBulkService.deleteByIds(Set.of(deleted, unknown))).thenReturn(Mono.just(List.of(
+                BulkDeleteResult.deleted(deleted),
+                BulkDeleteResult.notFound(unknown)
+        )));
+
+        MvcResult result = mockMvc.perform(delete("/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"" + deleted + "\", \"" + unknown + "\"]"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(deleted.toString()))
+                .andExpect(jsonPath("$[0].status").value("DELETED"))
+                .andExpect(jsonPath("$[1].id").value(unknown.toString()))
+                .andExpect(jsonPath("$[1].status").value("NOT_FOUND"));
+    }
+}
@@ -14,6 +14,7 @@ import org.mockserver.model.MediaType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
@@ -80,6 +81,7 @@ public class EmployeeControllerFullIntegrationTest {
     }
 
     @Test
+    @DirtiesContext
     public void shouldDeleteEmployeeById() {
         webTestClient
                 .delete()
@@ -98,6 +100,7 @@ public class EmployeeControllerFullIntegrationTest {
     }
 
     @Test
+    @DirtiesContext
     public void shouldCreateEmployee() {
         webTestClient
                 .post()
@@ -2,6 +2,7 @@ package com.reliaquest.api.controller;
 
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.service.EmployeeService;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
@@ -11,12 +12,16 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
 
 import java.util.Arrays;
 import java.util.UUID;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(EmployeeController.class)
@@ -55,6 +60,43 @@ public class EmployeeControllerIntegrationTest {
                 .andReturn();
     }
 
+    @Test
+    public void shouldStreamAllEmployeeAsNdjson() throws Exception {
+        Mockito.when(employeeService.streamAllEmployees()).thenReturn(
+                Flux.just(
+                        new Employee(
+                                UUID.fromString("b888aa78-d601-40a3-81ac-fd536d12dd3a"),
+                                "test-1",
+                                10,
+                                30,
+                                "HOD",
+                                "test1@gmail.com"),
+                        new Employee(
+                                UUID.fromString("c888aa78-d601-40a3-81ac-fd536d12dd3a"),
+                                "test-2",
+                                20,
+                                30,
+                                "HOD",
+                                "test2@gmail.com")
+                )
+        );
+
+        MvcResult result = mockMvc.perform(get("/").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        Assertions.assertThat(body.lines())
+                .hasSize(2)
+                .anySatisfy(line -> Assertions.assertThat(line).contains("\"name\":\"test-1\""))
+                .anySatisfy(line -> Assertions.assertThat(line).contains("\"name\":\"test-2\""));
+    }
+
     @Test
     public void shouldSearchEmployeeByName() throws Exception {
         Mockito.when(employeeService.findEmployeeByName("test-2")).thenReturn(
@@ -0,0 +1,100 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+@WebFluxTest(controllers = ReactiveEmployeeController.class,
+        properties = "employee.api.execution-mode=reactive")
+public class ReactiveEmployeeControllerIntegrationTest {
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    public void shouldFetchAllEmployee() {
+        Mockito.when(employeeService.getAllEmployeesAsync()).thenReturn(Mono.just(
+                Arrays.asList(
+                        new Employee(
+                                UUID.fromString("b888aa78-d601-40a3-81ac-fd536d12dd3a"),
+                                "test-1",
+                                10,
+                                30,
+                                "HOD",
+                                "test1@gmail.com")
+                )
+        ));
+
+        webTestClient.get()
+                .uri("/")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo("b888aa78-d601-40a3-81ac-fd536d12dd3a")
+                .jsonPath("$[0].name").isEqualTo("test-1");
+    }
+
+    @Test
+    public void shouldFetchHighestSalaryOfEmployee() {
+        Mockito.when(employeeService.findHighestSalaryOfEmployeeAsync()).thenReturn(Mono.just(1000));
+
+        webTestClient.get()
+                .uri("/highestSalary")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$").isEqualTo(1000);
+    }
+
+    @Test
+    public void shouldCreateNewEmployee() {
+        Mockito.when(employeeService.saveEmployeeAsync(ArgumentMatchers.any())).thenReturn(Mono.just(
+                new Employee(
+                        UUID.fromString("b888aa78-d601-40a3-81ac-fd536d12dd3a"),
+                        "test-1",
+                        10,
+                        30,
+                        "HOD",
+                        "test1@gmail.com")
+        ));
+
+        webTestClient.post()
+                .uri("/")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\n" +
+                        "    \"name\": \"test-1\",\n" +
+                        "    \"salary\": 10,\n" +
+                        "    \"age\": 30,\n" +
+                        "    \"title\": \"HOD\"\n" +
+                        "}")
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody().jsonPath("$.id").isEqualTo("b888aa78-d601-40a3-81ac-fd536d12dd3a");
+    }
+
+    @Test
+    public void shouldReturn404WhenEmployeeToBeDeletedIsNotPresent() {
+        Mockito.when(employeeService.deleteByIdAsync(UUID.fromString("b888aa78-d601-40a3-81ac-fd536d12dd3a")))
+                .thenReturn(Mono.error(new EmployeeNotFoundException("Employee Not Found")));
+
+        webTestClient.delete()
+                .uri("/b888aa78-d601-40a3-81ac-fd536d12dd3a")
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatusCode.valueOf(404));
+    }
+}
@@ -0,0 +1,118 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.controller.inbound.CreateEmployeeRequest;
+import com.reliaquest.api.exception.TooManyBulkItemsException;
+import com.reliaquest.api.model.BulkCreateResult;
+import com.reliaquest.api.model.BulkDeleteResult;
+import com.reliaquest.api.model.BulkItemStatus;
+import com.reliaquest.api.model.Employee;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+public class EmployeeBulkServiceTest {
+
+    private EmployeeService employeeService;
+    private EmployeeRosterCache employeeRosterCache;
+    private EmployeeBulkService employeeBulkService;
+
+    @BeforeEach
+    public void setup() {
+        employeeService = Mockito.mock(EmployeeService.class);
+        employeeRosterCache = Mockito.mock(EmployeeRosterCache.class);
+        employeeBulkService = new EmployeeBulkService(employeeService, employeeRosterCache, 3, 100);
+    }
+
+    @Test
+    public void shouldReportCreatesInRequestOrderWithFailuresInPlace() {
+        CreateEmployeeRequest slow = new CreateEmployeeRequest("Slow", 10, 30, "title");
+        CreateEmployeeRequest failing = new CreateEmployeeRequest("Failing", 20, 30, "title");
+        CreateEmployeeRequest fast = new CreateEmployeeRequest("Fast", 30, 30, "title");
+        Employee slowEmployee = new Employee(UUID.randomUUID(), "Slow", 10, 30, "title", "slow@company.com");
+        Employee fastEmployee = new Employee(UUID.randomUUID(), "Fast", 30, 30, "title", "fast@company.com");
+        Mockito.when(employeeService.saveEmployeeAsync(slow))
+                .thenReturn(Mono.just(slowEmployee).delayElement(Duration.ofMillis(100)));
+        Mockito.when(employeeService.saveEmployeeAsync(failing))
+                .thenReturn(Mono.error(new IllegalStateException("upstream rejected the employee")));
+        Mockito.when(employeeService.saveEmployeeAsync(fast)).thenReturn(Mono.just(fastEmployee));
+
+        List<BulkCreateResult> results = employeeBulkService.saveEmployees(List.of(slow, failing, fast)).block();
+
+        Assertions.assertThat(results).containsExactly(
+                BulkCreateResult.created(0, slowEmployee),
+                new BulkCreateResult(1, BulkItemStatus.FAILED, null, "upstream rejected the employee"),
+                BulkCreateResult.created(2, fastEmployee));
+    }
+
+    @Test
+    public void shouldBoundConcurrentUpstreamCreates() {
+        AtomicInteger outstanding = new AtomicInteger();
+        AtomicInteger maxOutstanding = new AtomicInteger();
+        Mockito.when(employeeService.saveEmployeeAsync(ArgumentMatchers.any())).thenAnswer(invocation -> {
+            CreateEmployeeRequest request = invocation.getArgument(0);
+            return Mono.delay(Duration.ofMillis(10))
+                    .map(ignored -> new Employee(UUID.randomUUID(), request.name(), request.salary(), request.age(),
+                            request.title(), "email"))
+                    .doOnSubscribe(subscription -> maxOutstanding.accumulateAndGet(
+                            outstanding.incrementAndGet(), Math::max))
+                    .doFinally(signal -> outstanding.decrementAndGet());
+        });
+        List<CreateEmployeeRequest> requests = IntStream.range(0, 20)
+                .mapToObj(i -> new CreateEmployeeRequest("Employee " + i, i, 30, "title"))
+                .toList();
+
+        List<BulkCreateResult> results = employeeBulkService.saveEmployees(requests).block();
+
+        Assertions.assertThat(results).hasSize(20).allMatch(result -> result.status() == BulkItemStatus.CREATED);
+        Assertions.assertThat(maxOutstanding.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    public void shouldRejectBatchesOverTheLimit() {
+        List<CreateEmployeeRequest> requests = IntStream.range(0, 101)
+                .mapToObj(i -> new CreateEmployeeRequest("Employee " + i, i, 30, "title"))
+                .toList();
+
+        Assertions.assertThatThrownBy(() -> employeeBulkService.saveEmployees(requests).block())
+                .isInstanceOf(TooManyBulkItemsException.class);
+        Mockito.verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    public void shouldDeleteByIdsResolvingNamesFromOneRosterRead() {
+        Employee deleted = new Employee(UUID.randomUUID(), "Deleted", 10, 30, "title", "deleted@company.com");
+        Employee goneUpstream = new Employee(UUID.randomUUID(), "Gone", 20, 30, "title", "gone@company.com");
+        Employee failing = new Employee(UUID.randomUUID(), "Failing", 30, 30, "title", "failing@company.com");
+        UUID unknownId = UUID.randomUUID();
+        Mockito.when(employeeRosterCache.currentAsync()).thenReturn(Mono.fromCallable(
+                () -> RosterSnapshot.of(List.of(deleted, goneUpstream, failing), Instant.now())));
+        Mockito.when(employeeService.deleteEmployeeAsync(deleted)).thenReturn(Mono.just(true));
+        Mockito.when(employeeService.deleteEmployeeAsync(goneUpstream)).thenReturn(Mono.just(false));
+        Mockito.when(employeeService.deleteEmployeeAsync(failing))
+                .thenReturn(Mono.error(new IllegalStateException("upstream unavailable")));
+
+        List<BulkDeleteResult> results = employeeBulkService
+                .deleteByIds(List.of(deleted.id(), goneUpstream.id(), failing.id(), unknownId))
+                .block();
+
+        Assertions.assertThat(results).containsExactly(
+                BulkDeleteResult.deleted(deleted.id()),
+                BulkDeleteResult.notFound(goneUpstream.id()),
+                new BulkDeleteResult(failing.id(), BulkItemStatus.FAILED, "upstream unavailable"),
+                BulkDeleteResult.notFound(unknownId));
+        Mockito.verify(employeeRosterCache, Mockito.times(1)).currentAsync();
+        Mockito.verify(employeeService, Mockito.times(3)).deleteEmployeeAsync(ArgumentMatchers.any());
+    }
+}
@@ -1,19 +1,28 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeByIdCache;
+import com.reliaquest.api.cache.EmployeeRosterCache;
 import com.reliaquest.api.client.EmployeeApiClient;
 import com.reliaquest.api.client.inbound.CreateEmployeeApiRequest;
 import com.reliaquest.api.client.inbound.DeleteEmployeeApiRequest;
 import com.reliaquest.api.client.outbound.EmployeeApiResponse;
 import com.reliaquest.api.controller.inbound.CreateEmployeeRequest;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.UpstreamUnavailableException;
 import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -25,11 +34,16 @@ public class EmployeeServiceTest {
 
     private EmployeeApiClient employeeApiClient;
     private EmployeeService employeeService;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     public void setup() {
         employeeApiClient = Mockito.mock(EmployeeApiClient.class);
-        employeeService = new EmployeeService(employeeApiClient);
+        EmployeeRosterCache employeeRosterCache = new EmployeeRosterCache(
+                employeeApiClient, Runnable::run, Duration.ofSeconds(30), Duration.ofSeconds(5), Clock.systemUTC());
+        meterRegistry = new SimpleMeterRegistry();
+        employeeService = new EmployeeService(employeeApiClient, employeeRosterCache,
+                new EmployeeByIdCache(Duration.ofSeconds(30), Duration.ofSeconds(5), 100, meterRegistry), meterRegistry);
     }
 
     @Test
@@ -59,13 +73,13 @@ public class EmployeeServiceTest {
                 "email"
         );
 
-        Mockito.when(employeeApiClient.findAllEmployee()).thenReturn(
+        Mockito.when(employeeApiClient.streamAllEmployee()).thenReturn(Flux.fromIterable(
                 Arrays.asList(
                         employee1,
                         employee2,
                         employee3
                 )
-        );
+        ));
         List<Employee> actualEmployee = employeeService.getAllEmployees();
         Assertions.assertThat(actualEmployee).containsExactlyInAnyOrder(
                 employee1.toEmployee(),
@@ -101,13 +115,13 @@ public class EmployeeServiceTest {
                 "email"
         );
 
-        Mockito.when(employeeApiClient.findAllEmployee()).thenReturn(
+        Mockito.when(employeeApiClient.streamAllEmployee()).thenReturn(Flux.fromIterable(
                 Arrays.asList(
                         employee1,
                         employee2,
                         employee3
                 )
-        );
+        ));
         List<Employee> actualEmployee = employeeService.findEmployeeByName("Test2");
         Assertions.assertThat(actualEmployee).containsExactlyInAnyOrder(
                 employee2.toEmployee()
@@ -161,13 +175,13 @@ public class EmployeeServiceTest {
                 "email"
         );
 
-        Mockito.when(employeeApiClient.findAllEmployee()).thenReturn(
+        Mockito.when(employeeApiClient.streamAllEmployee()).thenReturn(Flux.fromIterable(
                 Arrays.asList(
                         employee1,
                         employee2,
                         employee3
                 )
-        );
+        ));
         Integer highestSalaryOfEmployee = employeeService.findHighestSalaryOfEmployee();
         Assertions.assertThat(highestSalaryOfEmployee).isEqualTo(30);
     }
@@ -184,7 +198,7 @@ public class EmployeeServiceTest {
                         "email")
                 ).collect(Collectors.toList());
 
-        Mockito.when(employeeApiClient.findAllEmployee()).thenReturn(listOfEmployees);
+        Mockito.when(employeeApiClient.streamAllEmployee()).thenReturn(Flux.fromIterable(listOfEmployees));
 
         List<String> topTenEmployee = employeeService.findTopTenEarningEmployeeNames();
         Assertions.assertThat(topTenEmployee).containsExactlyInAnyOrder(
@@ -252,14 +266,30 @@ public class EmployeeServiceTest {
                 "email"
         );
 
-        Mockito.when(employeeApiClient.findAllEmployee()).thenReturn(
-                Arrays.asList(employee1, employee2, employee3));
+        Mockito.when(employeeApiClient.streamAllEmployee()).thenReturn(Flux.fromIterable(
+                Arrays.asList(employee1, employee2, employee3)));
+        employeeService.getAllEmployees();
 
         employeeService.deleteById(UUID.fromString("c888aa78-d601-40a3-81ac-fd536d12dd3a"));
 
         Mockito.verify(employeeApiClient).deleteEmployee(
                 new DeleteEmployeeApiRequest("Test2")
         );
+        Mockito.verify(employeeApiClient, Mockito.never()).findNameById(ArgumentMatchers.any());
+    }
+
+    @Test
+    public void shouldResolveNameThroughFindNameByIdWhenEmployeeToBeDeletedIsNotInRoster() {
+        UUID id = UUID.fromString("c888aa78-d601-40a3-81ac-fd536d12dd3a");
+        Mockito.when(employeeApiClient.findNameById(id)).thenReturn(
+                new EmployeeApiResponse(id, "Test2", null, null, null, null));
+
+        employeeService.deleteById(id);
+
+        Mockito.verify(employeeApiClient, Mockito.never()).streamAllEmployee();
+        Mockito.verify(employeeApiClient).deleteEmployee(
+                new DeleteEmployeeApiRequest("Test2")
+        );
     }
 
     @Test
@@ -289,11 +319,152 @@ public class EmployeeServiceTest {
                 "email"
         );
 
-        Mockito.when(employeeApiClient.findAllEmployee()).thenReturn(
-                Arrays.asList(employee1, employee2, employee3));
+        Mockito.when(employeeApiClient.streamAllEmployee()).thenReturn(Flux.fromIterable(
+                Arrays.asList(employee1, employee2, employee3)));
+        Mockito.when(employeeApiClient.findNameById(UUID.fromString("e888aa78-d601-40a3-81ac-fd536d12dd3a")))
+                .thenThrow(new EmployeeNotFoundException("Employee with id e888aa78-d601-40a3-81ac-fd536d12dd3a Not found."));
+        employeeService.getAllEmployees();
 
         Assertions.assertThatThrownBy(() ->
                 employeeService.deleteById(UUID.fromString("e888aa78-d601-40a3-81ac-fd536d12dd3a"))
         ).isInstanceOf(EmployeeNotFoundException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldFindHighestSalaryOfEmployeeWithoutBlocking() {
+        Mockito.when(employeeApiClient.streamAllEmployee()).thenReturn(Flux.fromIterable(
+                Arrays.asList(
+                        new EmployeeApiResponse(
+                                UUID.fromString("b888aa78-d601-40a3-81ac-fd536d12dd3a"), "Test1", 10, 30, "title", "email"),
+                        new EmployeeApiResponse(
+                                UUID.fromString("c888aa78-d601-40a3-81ac-fd536d12dd3a"), "Test2", 20, 30, "title", "email")
+                )
+        ));
+
+        Assertions.assertThat(employeeService.findHighestSalaryOfEmployeeAsync().block()).isEqualTo(20);
+    }
+
+    @Test
+    public void shouldDeleteByIdWithoutBlocking() {
+        UUID id = UUID.fromString("c888aa78-d601-40a3-81ac-fd536d12dd3a");
+        Mockito.when(employeeApiClient.findNameByIdAsync(id)).thenReturn(Mono.just(
+                new EmployeeApiResponse(id, "Test2", null, null, null, null)));
+        Mockito.when(employeeApiClient.deleteEmployeeAsync(new DeleteEmployeeApiRequest("Test2")))
+                .thenReturn(Mono.just(true));
+
+        employeeService.deleteByIdAsync(id).block();
+
+        Mockito.verify(employeeApiClient).deleteEmployeeAsync(new DeleteEmployeeApiRequest("Test2"));
+    }
+
+    @Test
+    public void shouldKeepEmployeeInRosterWhenUpstreamDeletesNothing() {
+        EmployeeApiResponse existing = new EmployeeApiResponse(
+                UUID.fromString("b888aa78-d601-40a3-81ac-fd536d12dd3a"), "Test1", 10, 30, "title", "email");
+        Mockito.when(employeeApiClient.streamAllEmployee()).thenReturn(Flux.just(existing));
+        Mockito.when(employeeApiClient.deleteEmployeeAsync(new DeleteEmployeeApiRequest("Test1")))
+                .thenReturn(Mono.just(false));
+        employeeService.getAllEmployees();
+
+        Assertions.assertThat(employeeService.deleteEmployeeAsync(existing.toEmployee()).block()).isFalse();
+
+        Assertions.assertThat(employeeService.getAllEmployees()).containsExactly(existing.toEmployee());
+        Mockito.verify(employeeApiClient, Mockito.times(1)).streamAllEmployee();
+    }
+
+    @Test
+    public void shouldStreamEmployeesStraightFromUpstreamWhileRosterIsNotLoaded() {
+        EmployeeApiResponse employee1 = new EmployeeApiResponse(
+                UUID.fromString("b888aa78-d601-40a3-81ac-fd536d12dd3a"), "Test1", 10, 30, "title", "email");
+        Mockito.when(employeeApiClient.streamAllEmployee()).thenReturn(Flux.just(employee1));
+
+        List<Employee> streamed = employeeService.streamAllEmployees().collectList().block();
+
+        Assertions.assertThat(streamed).containsExactly(employee1.toEmployee());
+    }
+
+    @Test
+    public void shouldStreamEmployeesFromLoadedRoster() {
+        EmployeeApiResponse employee1 = new EmployeeApiResponse(
+                UUID.fromString("b888aa78-d601-40a3-81ac-fd536d12dd3a"), "Test1", 10, 30, "title", "email");
+        Mockito.when(employeeApiClient.streamAllEmployee()).thenReturn(Flux.just(employee1));
+        employeeService.getAllEmployees();
+
+        List<Employee> streamed = employeeService.streamAllEmployees().collectList().block();
+
+        Assertions.assertThat(streamed).containsExactly(employee1.toEmployee());
+        Mockito.verify(employeeApiClient, Mockito.times(1)).streamAllEmployee();
+    }
+
+    @Test
+    public void shouldTimeOperationsByOutcome() {
+        Mockito.when(employeeApiClient.streamAllEmployee()).thenReturn(Flux.just(new EmployeeApiResponse(
+                UUID.fromString("b888aa78-d601-40a3-81ac-fd536d12dd3a"), "Test1", 10, 30, "title", "email")));
+        Mockito.when(employeeApiClient.findById(UUID.fromString("e888aa78-d601-40a3-81ac-fd536d12dd3a")))
+                .thenThrow(new EmployeeNotFoundException("Employee with id e888aa78-d601-40a3-81ac-fd536d12dd3a Not found."));
+
+        employeeService.findTopTenEarningEmployeeNames();
+        employeeService.findTopTenEarningEmployeeNamesAsync().block();
+        Assertions.assertThatThrownBy(() -> employeeService.getEmployeeById("e888aa78-d601-40a3-81ac-fd536d12dd3a"))
+                .isInstanceOf(EmployeeNotFoundException.class);
+
+        Assertions.assertThat(meterRegistry.get("employee.service.operations")
+                        .tag("operation", "findTopTenEarningEmployeeNames")
+                        .tag("outcome", "success")
+                        .timer()
+                        .count())
+                .isEqualTo(2);
+        Assertions.assertThat(meterRegistry.get("employee.service.operations")
+                        .tag("operation", "getEmployeeById")
+                        .tag("outcome", "error")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void shouldServeEmployeeByIdFromRosterWhileUpstreamIsUnavailable() {
+        UUID id = UUID.fromString("b888aa78-d601-40a3-81ac-fd536d12dd3a");
+        Mockito.when(employeeApiClient.streamAllEmployee()).thenReturn(Flux.just(
+                new EmployeeApiResponse(id, "Test1", 10, 30, "title", "email")));
+        Mockito.when(employeeApiClient.findById(id))
+                .thenThrow(new UpstreamUnavailableException("Employee service get-by-id is unavailable", null));
+        Mockito.when(employeeApiClient.findByIdAsync(id))
+                .thenReturn(Mono.error(new UpstreamUnavailableException("Employee service get-by-id is unavailable", null)));
+        employeeService.getAllEmployees();
+
+        Employee expected = new Employee(id, "Test1", 10, 30, "title", "email");
+        Assertions.assertThat(employeeService.getEmployeeById(id.toString())).isEqualTo(expected);
+        Assertions.assertThat(employeeService.getEmployeeByIdAsync(id.toString()).block()).isEqualTo(expected);
+    }
+
+    @Test
+    public void shouldPropagateUpstreamUnavailableWhenEmployeeIsNotInRoster() {
+        UUID id = UUID.fromString("e888aa78-d601-40a3-81ac-fd536d12dd3a");
+        Mockito.when(employeeApiClient.findById(id))
+                .thenThrow(new UpstreamUnavailableException("Employee service get-by-id is unavailable", null));
+
+        Assertions.assertThatThrownBy(() -> employeeService.getEmployeeById(id.toString()))
+                .isInstanceOf(UpstreamUnavailableException.class);
+    }
+
+    @Test
+    public void shouldReflectWritesInReadsWithoutRefetchingTheRoster() {
+        EmployeeApiResponse existing = new EmployeeApiResponse(
+                UUID.fromString("b888aa78-d601-40a3-81ac-fd536d12dd3a"), "Test1", 10, 30, "title", "email");
+        EmployeeApiResponse created = new EmployeeApiResponse(
+                UUID.fromString("c888aa78-d601-40a3-81ac-fd536d12dd3a"), "Test2", 20, 30, "title", "email");
+        Mockito.when(employeeApiClient.streamAllEmployee()).thenReturn(Flux.just(existing));
+        Mockito.when(employeeApiClient.createEmployee(new CreateEmployeeApiRequest("Test2", 20, 30, "title")))
+                .thenReturn(created);
+        Mockito.when(employeeApiClient.deleteEmployee(new DeleteEmployeeApiRequest("Test1"))).thenReturn(true);
+        employeeService.getAllEmployees();
+
+        employeeService.saveEmployee(new CreateEmployeeRequest("Test2", 20, 30, "title"));
+        employeeService.deleteById(existing.id());
+
+        Assertions.assertThat(employeeService.getAllEmployees()).containsExactly(created.toEmployee());
+        Assertions.assertThat(employeeService.findHighestSalaryOfEmployee()).isEqualTo(20);
+        Mockito.verify(employeeApiClient, Mockito.times(1)).streamAllEmployee();
+    }
+}
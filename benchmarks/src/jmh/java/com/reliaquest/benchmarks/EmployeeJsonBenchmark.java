@@ -0,0 +1,103 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.reliaquest.api.client.outbound.EmployeeApiResponse;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Jackson (de)serialization of the employee wire format on both sides: {@link MockEmployee} on the server, whose
+ * {@code employee_} property prefix comes from its {@code PrefixNamingStrategy}, and {@link EmployeeApiResponse}
+ * on the api side.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EmployeeJsonBenchmark {
+
+    private static final int LIST_SIZE = 1000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().setFilterProvider(MockEmployee.fields(Set.of()));
+    private final ObjectWriter idAndNameWriter =
+            objectMapper.writer(MockEmployee.fields(Set.of("id", "employee_name")));
+
+    private MockEmployee mockEmployee;
+    private List<MockEmployee> mockEmployees;
+    private String employeeJson;
+    private String employeeListJson;
+    private JavaType employeeApiResponseList;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        mockEmployee = mockEmployee(0);
+        mockEmployees = IntStream.range(0, LIST_SIZE).mapToObj(EmployeeJsonBenchmark::mockEmployee).toList();
+        employeeJson = objectMapper.writeValueAsString(mockEmployee);
+        employeeListJson = objectMapper.writeValueAsString(mockEmployees);
+        employeeApiResponseList =
+                objectMapper.getTypeFactory().constructCollectionType(List.class, EmployeeApiResponse.class);
+    }
+
+    @Benchmark
+    public String serializeMockEmployee() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(mockEmployee);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String serializeMockEmployeeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(mockEmployees);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String serializeMockEmployeeListIdAndName() throws JsonProcessingException {
+        return idAndNameWriter.writeValueAsString(mockEmployees);
+    }
+
+    @Benchmark
+    public MockEmployee deserializeMockEmployee() throws JsonProcessingException {
+        return objectMapper.readValue(employeeJson, MockEmployee.class);
+    }
+
+    @Benchmark
+    public EmployeeApiResponse deserializeEmployeeApiResponse() throws JsonProcessingException {
+        return objectMapper.readValue(employeeJson, EmployeeApiResponse.class);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<EmployeeApiResponse> deserializeEmployeeApiResponseList() throws JsonProcessingException {
+        return objectMapper.readValue(employeeListJson, employeeApiResponseList);
+    }
+
+    private static MockEmployee mockEmployee(int index) {
+        return MockEmployee.builder()
+                .id(new UUID(0, index))
+                .name("Employee " + index)
+                .salary(30_000 + index)
+                .age(16 + index % 50)
+                .title("Title " + index)
+                .email("employee" + index + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.cache.EmployeeByIdCache;
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.client.outbound.EmployeeApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+/**
+ * {@link EmployeeService} read operations served from a loaded roster snapshot, plus the cost of building the
+ * snapshot and its indexes on refresh.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EmployeeRosterBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int rosterSize;
+
+    private List<Employee> roster;
+    private EmployeeService employeeService;
+    private String searchedName;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<EmployeeApiResponse> upstreamRoster = IntStream.range(0, rosterSize)
+                .mapToObj(i -> new EmployeeApiResponse(
+                        new UUID(random.nextLong(), random.nextLong()),
+                        "Employee " + random.nextInt(rosterSize),
+                        random.nextInt(30_000, 500_000),
+                        random.nextInt(16, 70),
+                        "Title",
+                        "employee" + i + "@company.com"))
+                .toList();
+        roster = upstreamRoster.stream().map(EmployeeApiResponse::toEmployee).toList();
+        searchedName = roster.get(rosterSize / 2).name();
+
+        EmployeeApiClient employeeApiClient = Mockito.mock(EmployeeApiClient.class);
+        Mockito.when(employeeApiClient.streamAllEmployee()).thenReturn(Flux.fromIterable(upstreamRoster));
+        EmployeeRosterCache employeeRosterCache = new EmployeeRosterCache(
+                employeeApiClient, Runnable::run, Duration.ofDays(1), Duration.ZERO, Clock.systemUTC());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        employeeService = new EmployeeService(employeeApiClient, employeeRosterCache,
+                new EmployeeByIdCache(Duration.ofDays(1), Duration.ZERO, rosterSize, meterRegistry), meterRegistry);
+        employeeService.getAllEmployees();
+    }
+
+    @Benchmark
+    public List<Employee> searchByName() {
+        return employeeService.findEmployeeByName(searchedName);
+    }
+
+    @Benchmark
+    public Integer highestSalary() {
+        return employeeService.findHighestSalaryOfEmployee();
+    }
+
+    @Benchmark
+    public List<String> topTenEarningNames() {
+        return employeeService.findTopTenEarningEmployeeNames();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public RosterSnapshot buildSnapshot() {
+        return RosterSnapshot.of(roster, Instant.EPOCH);
+    }
+}
@@ -0,0 +1,80 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookups and deletes against the mock server's employee store. Each delete is followed by re-adding the same
+ * employee so the roster keeps its size across invocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MockEmployeeServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rosterSize;
+
+    private MockEmployeeService mockEmployeeService;
+    private MockEmployee target;
+    private DeleteMockEmployeeInput deleteTarget;
+
+    @Setup
+    public void setup() {
+        List<MockEmployee> mockEmployees = IntStream.range(0, rosterSize)
+                .mapToObj(index -> MockEmployee.builder()
+                        .id(new UUID(0, index))
+                        .name("Employee " + index)
+                        .salary(30_000 + index)
+                        .age(16 + index % 50)
+                        .title("Title")
+                        .email("employee" + index + "@company.com")
+                        .build())
+                .collect(Collectors.toCollection(ArrayList::new));
+        mockEmployeeService = new MockEmployeeService(new Faker(Locale.ENGLISH), mockEmployees);
+        target = mockEmployees.get(rosterSize / 2);
+        deleteTarget = new DeleteMockEmployeeInput();
+        deleteTarget.setName(target.getName());
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        return mockEmployeeService.findById(target.getId());
+    }
+
+    @Benchmark
+    public List<MockEmployee> snapshot() {
+        return mockEmployeeService.getMockEmployees();
+    }
+
+    @Benchmark
+    public boolean deleteAndRestore() {
+        boolean deleted = mockEmployeeService.delete(deleteTarget);
+        mockEmployeeService.add(target);
+        return deleted;
+    }
+}
@@ -0,0 +1,100 @@
+package com.reliaquest.benchmarks.load;
+
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.server.ServerApplication;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the mock employee server and the api in this JVM, the api pointed at the server.
+ * <p>
+ * Both modules ship an {@code application.yml} at the classpath root and only one of them would be picked up, so
+ * neither is read: each application gets {@code spring.config.name} set to a name that does not exist and is
+ * configured solely from the properties passed in here. Both listen on ephemeral ports.
+ */
+final class EmbeddedEmployeeStack implements AutoCloseable {
+
+    private static final String NO_CONFIG_FILE = "load-generator";
+
+    private final ConfigurableApplicationContext server;
+    private final ConfigurableApplicationContext api;
+
+    private EmbeddedEmployeeStack(ConfigurableApplicationContext server, ConfigurableApplicationContext api) {
+        this.server = server;
+        this.api = api;
+    }
+
+    static EmbeddedEmployeeStack start(Map<String, Object> serverProperties, Map<String, Object> apiProperties) {
+        return start(serverProperties, apiProperties, List.of());
+    }
+
+    /**
+     * Same as {@link #start(Map, Map)}, applying {@code serverInitializers} to the server's context before it is
+     * refreshed, e.g. to register extra beans.
+     */
+    static EmbeddedEmployeeStack start(
+            Map<String, Object> serverProperties,
+            Map<String, Object> apiProperties,
+            List<ApplicationContextInitializer<ConfigurableApplicationContext>> serverInitializers) {
+        ConfigurableApplicationContext server =
+                run(ServerApplication.class, serverProperties, Map.of(), serverInitializers);
+        try {
+            ConfigurableApplicationContext api = run(
+                    ApiApplication.class,
+                    apiProperties,
+                    Map.of("EMPLOYEE_SERVICE_BASE_PATH", "http://localhost:" + port(server)),
+                    List.of());
+            return new EmbeddedEmployeeStack(server, api);
+        } catch (RuntimeException e) {
+            server.close();
+            throw e;
+        }
+    }
+
+    URI apiBaseUri() {
+        return URI.create("http://localhost:" + port(api));
+    }
+
+    /**
+     * Returns a snapshot of the server's roster as it is before any load is applied.
+     */
+    List<MockEmployee> initialRoster() {
+        return server.getBean(MockEmployeeService.class).getMockEmployees();
+    }
+
+    @Override
+    public void close() {
+        api.close();
+        server.close();
+    }
+
+    private static ConfigurableApplicationContext run(
+            Class<?> application,
+            Map<String, Object> overrides,
+            Map<String, Object> required,
+            List<ApplicationContextInitializer<ConfigurableApplicationContext>> initializers) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.config.name", NO_CONFIG_FILE);
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("server.port", 0);
+        properties.put("logging.level.com.reliaquest", "WARN");
+        properties.putAll(overrides);
+        properties.putAll(required);
+        return new SpringApplicationBuilder(application)
+                .properties(properties)
+                .initializers(initializers.toArray(ApplicationContextInitializer[]::new))
+                .run();
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+}
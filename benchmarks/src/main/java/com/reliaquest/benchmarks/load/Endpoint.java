@@ -0,0 +1,39 @@
+package com.reliaquest.benchmarks.load;
+
+/**
+ * The seven operations of {@code IEmployeeController}, keyed by the names used in {@code --mix}.
+ */
+enum Endpoint {
+    GET_ALL("getAll", "GET /"),
+    SEARCH("search", "GET /search/{searchString}"),
+    GET_BY_ID("getById", "GET /{id}"),
+    HIGHEST_SALARY("highestSalary", "GET /highestSalary"),
+    TOP_TEN("topTen", "GET /topTenHighestEarningEmployeeNames"),
+    CREATE("create", "POST /"),
+    DELETE("delete", "DELETE /{id}");
+
+    private final String key;
+    private final String route;
+
+    Endpoint(String key, String route) {
+        this.key = key;
+        this.route = route;
+    }
+
+    String key() {
+        return key;
+    }
+
+    String route() {
+        return route;
+    }
+
+    static Endpoint fromKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equals(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Unknown endpoint '" + key + "' in --mix");
+    }
+}
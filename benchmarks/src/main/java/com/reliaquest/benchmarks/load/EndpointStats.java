@@ -0,0 +1,71 @@
+package com.reliaquest.benchmarks.load;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency histogram and response counters of one endpoint. Latencies are recorded in microseconds from the
+ * request's intended start, not from when it was actually sent.
+ */
+final class EndpointStats {
+
+    private final Histogram latencyMicros = new ConcurrentHistogram(3);
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder tooManyRequests = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder transportErrors = new LongAdder();
+
+    void recordResponse(int status, long latencyNanos) {
+        latencyMicros.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        if (status == 429) {
+            tooManyRequests.increment();
+        } else if (status >= 500) {
+            serverErrors.increment();
+        } else if (status >= 400) {
+            clientErrors.increment();
+        } else {
+            successes.increment();
+        }
+    }
+
+    void recordTransportError(long latencyNanos) {
+        latencyMicros.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        transportErrors.increment();
+    }
+
+    long count() {
+        return latencyMicros.getTotalCount();
+    }
+
+    String formatRow(String name, double seconds) {
+        return String.format(
+                "%-40s %8d %9.1f %8d %6d %6d %6d %6d %9.2f %9.2f %9.2f %9.2f %9.2f",
+                name,
+                count(),
+                count() / seconds,
+                successes.sum(),
+                tooManyRequests.sum(),
+                clientErrors.sum(),
+                serverErrors.sum(),
+                transportErrors.sum(),
+                millis(50),
+                millis(90),
+                millis(99),
+                millis(99.9),
+                latencyMicros.getMaxValue() / 1000.0);
+    }
+
+    static String header() {
+        return String.format(
+                "%-40s %8s %9s %8s %6s %6s %6s %6s %9s %9s %9s %9s %9s",
+                "endpoint", "requests", "req/s", "2xx", "429", "4xx", "5xx", "io-err", "p50 ms", "p90 ms",
+                "p99 ms", "p99.9 ms", "max ms");
+    }
+
+    private double millis(double percentile) {
+        return latencyMicros.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
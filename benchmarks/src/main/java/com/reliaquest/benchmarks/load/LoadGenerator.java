@@ -0,0 +1,255 @@
+package com.reliaquest.benchmarks.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Open-model load generator for the api, running the mock server and the api in this JVM.
+ * <p>
+ * Requests are issued on a fixed schedule ({@code --arrival=uniform}) or with exponentially distributed gaps
+ * ({@code --arrival=poisson}) at {@code --rate} requests per second, whether or not earlier requests have
+ * completed. Each latency is measured from the request's scheduled start, so a stalled api shows up in the
+ * percentiles instead of silently lowering the request rate (coordinated omission).
+ * <p>
+ * Run with {@code ./gradlew :benchmarks:loadTest -PloadArgs="--rate=200 --duration=PT2M"}. Options:
+ * <ul>
+ *     <li>{@code --rate} requests per second, default 50</li>
+ *     <li>{@code --duration} and {@code --warmup} as ISO-8601 durations, default PT60S and PT10S; requests
+ *     scheduled during warmup are sent but not reported</li>
+ *     <li>{@code --arrival} {@code uniform} (default) or {@code poisson}</li>
+ *     <li>{@code --mix} relative endpoint weights, e.g.
+ *     {@code getAll:2,search:2,getById:2,highestSalary:1,topTen:1,create:1,delete:1}</li>
+ *     <li>{@code --seed} for the arrival gaps and request parameters, and for the server's roster unless
+ *     {@code --server.mock.employees.seed} is given</li>
+ *     <li>{@code --server.<property>=<value>} and {@code --api.<property>=<value>} are passed to the respective
+ *     application, e.g. {@code --server.mock.employees.max=1000} or
+ *     {@code --api.spring.threads.virtual.enabled=true}</li>
+ * </ul>
+ * Deletes remove employees created earlier in the run; when none are left they target a random id and are
+ * reported as 4xx.
+ */
+public class LoadGenerator {
+
+    private static final String DEFAULT_MIX = "getAll:2,search:2,getById:2,highestSalary:1,topTen:1,create:1,delete:1";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final URI apiBaseUri;
+    private final List<MockEmployee> initialRoster;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Queue<UUID> createdIds = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+
+    LoadGenerator(HttpClient httpClient, URI apiBaseUri, List<MockEmployee> initialRoster) {
+        this.httpClient = httpClient;
+        this.apiBaseUri = apiBaseUri;
+        this.initialRoster = initialRoster;
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = Arrays.stream(args)
+                .filter(arg -> arg.startsWith("--") && arg.contains("="))
+                .map(arg -> arg.substring(2).split("=", 2))
+                .collect(Collectors.toMap(option -> option[0], option -> option[1], (first, last) -> last));
+        double rate = Double.parseDouble(options.getOrDefault("rate", "50"));
+        Duration duration = Duration.parse(options.getOrDefault("duration", "PT60S"));
+        Duration warmup = Duration.parse(options.getOrDefault("warmup", "PT10S"));
+        boolean poisson = "poisson".equals(options.getOrDefault("arrival", "uniform"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        Endpoint[] mix = parseMix(options.getOrDefault("mix", DEFAULT_MIX));
+
+        ExecutorService responseExecutor = Executors.newCachedThreadPool();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(responseExecutor)
+                .build();
+        Map<String, Object> serverProperties = prefixed(options, "server.");
+        serverProperties.putIfAbsent("mock.employees.seed", seed);
+        try (EmbeddedEmployeeStack stack = EmbeddedEmployeeStack.start(serverProperties, prefixed(options, "api."))) {
+            LoadGenerator loadGenerator = new LoadGenerator(httpClient, stack.apiBaseUri(), stack.initialRoster());
+            System.out.printf(
+                    "Driving %s at %.1f req/s (%s arrivals) for %s after %s warmup%n",
+                    stack.apiBaseUri(), rate, poisson ? "poisson" : "uniform", duration, warmup);
+            loadGenerator.run(rate, warmup, duration, poisson, mix, new SplittableRandom(seed));
+            loadGenerator.printReport(duration);
+        } finally {
+            responseExecutor.shutdownNow();
+        }
+    }
+
+    void run(double rate, Duration warmup, Duration duration, boolean poisson, Endpoint[] mix, SplittableRandom random)
+            throws InterruptedException {
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        double scheduledOffset = 0;
+        while (true) {
+            long intendedStart = start + (long) scheduledOffset;
+            if (intendedStart >= end) {
+                break;
+            }
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Endpoint endpoint = mix[random.nextInt(mix.length)];
+            send(endpoint, random.split(), intendedStart, intendedStart >= measureFrom);
+            scheduledOffset += poisson ? -Math.log(1 - random.nextDouble()) * meanGapNanos : meanGapNanos;
+        }
+        long drainDeadline = System.nanoTime() + REQUEST_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    void printReport(Duration duration) {
+        double seconds = duration.toNanos() / 1e9;
+        System.out.println();
+        System.out.println(EndpointStats.header());
+        stats.forEach((endpoint, endpointStats) -> {
+            if (endpointStats.count() > 0) {
+                System.out.println(endpointStats.formatRow(endpoint.route(), seconds));
+            }
+        });
+        if (inFlight.get() > 0) {
+            System.out.printf(
+                    "%d requests still in flight after %s were not recorded%n", inFlight.get(), REQUEST_TIMEOUT);
+        }
+    }
+
+    private void send(Endpoint endpoint, SplittableRandom random, long intendedStart, boolean measured) {
+        HttpRequest request = request(endpoint, random);
+        inFlight.incrementAndGet();
+        CompletableFuture<HttpResponse<String>> response =
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        response.whenComplete((completed, error) -> {
+            try {
+                long latency = System.nanoTime() - intendedStart;
+                if (error != null) {
+                    if (measured) {
+                        stats.get(endpoint).recordTransportError(latency);
+                    }
+                    return;
+                }
+                if (measured) {
+                    stats.get(endpoint).recordResponse(completed.statusCode(), latency);
+                }
+                if (endpoint == Endpoint.CREATE && completed.statusCode() == 201) {
+                    rememberCreated(completed.body());
+                }
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+
+    private HttpRequest request(Endpoint endpoint, SplittableRandom random) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(REQUEST_TIMEOUT);
+        return switch (endpoint) {
+            case GET_ALL -> builder.uri(apiBaseUri.resolve("/")).GET().build();
+            case SEARCH -> builder.uri(apiBaseUri.resolve("/search/" + searchString(random)))
+                    .GET()
+                    .build();
+            case GET_BY_ID -> builder.uri(apiBaseUri.resolve("/" + randomEmployee(random).getId()))
+                    .GET()
+                    .build();
+            case HIGHEST_SALARY -> builder.uri(apiBaseUri.resolve("/highestSalary")).GET().build();
+            case TOP_TEN -> builder.uri(apiBaseUri.resolve("/topTenHighestEarningEmployeeNames"))
+                    .GET()
+                    .build();
+            case CREATE -> builder.uri(apiBaseUri.resolve("/"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(createBody(random)))
+                    .build();
+            case DELETE -> {
+                UUID id = createdIds.poll();
+                yield builder.uri(apiBaseUri.resolve("/" + (id != null ? id : new UUID(random.nextLong(), 0))))
+                        .DELETE()
+                        .build();
+            }
+        };
+    }
+
+    private String searchString(SplittableRandom random) {
+        String name = randomEmployee(random).getName();
+        int space = name.indexOf(' ');
+        return URLEncoder.encode(space > 0 ? name.substring(0, space) : name, StandardCharsets.UTF_8)
+                .replace("+", "%20");
+    }
+
+    private MockEmployee randomEmployee(SplittableRandom random) {
+        return initialRoster.get(random.nextInt(initialRoster.size()));
+    }
+
+    private String createBody(SplittableRandom random) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("name", "Load Test " + random.nextInt(1_000_000));
+        body.put("salary", random.nextInt(30_000, 500_000));
+        body.put("age", random.nextInt(16, 75));
+        body.put("title", "Load Tester");
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void rememberCreated(String responseBody) {
+        try {
+            JsonNode id = objectMapper.readTree(responseBody).get("id");
+            if (id != null && id.isTextual()) {
+                createdIds.add(UUID.fromString(id.asText()));
+            }
+        } catch (Exception e) {
+            // A malformed create response only means one fewer employee for later deletes to target.
+        }
+    }
+
+    private static Endpoint[] parseMix(String mix) {
+        return Arrays.stream(mix.split(","))
+                .map(entry -> entry.trim().split(":"))
+                .flatMap(entry -> {
+                    Endpoint endpoint = Endpoint.fromKey(entry[0]);
+                    int weight = entry.length > 1 ? Integer.parseInt(entry[1]) : 1;
+                    return Stream.generate(() -> endpoint).limit(weight);
+                })
+                .toArray(Endpoint[]::new);
+    }
+
+    private static Map<String, Object> prefixed(Map<String, String> options, String prefix) {
+        return options.entrySet().stream()
+                .filter(option -> option.getKey().startsWith(prefix))
+                .collect(Collectors.toMap(option -> option.getKey().substring(prefix.length()), Map.Entry::getValue));
+    }
+}
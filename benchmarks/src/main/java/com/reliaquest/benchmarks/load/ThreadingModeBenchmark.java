@@ -0,0 +1,152 @@
+package com.reliaquest.benchmarks.load;
+
+import com.reliaquest.server.model.MockEmployee;
+import jakarta.servlet.Filter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the api's blocking servlet stack on Tomcat's platform worker pool with the same stack on virtual threads
+ * ({@code spring.threads.virtual.enabled}). For each mode the mock server and the api are booted in this JVM and
+ * {@code GET /{id}} is driven over HTTP with {@code --concurrency} requests outstanding. Every such request blocks its
+ * request thread on an upstream get-by-id; the server delays each response by {@code --upstream-delay-ms}, and the
+ * api's per-id cache and the server's rate limiter are disabled so that every request reaches the upstream.
+ * <p>
+ * Run with {@code ./gradlew -PjavaVersion=21 benchmarks:threadingModeBenchmark -PbenchmarkArgs="--requests=20000"}.
+ * Options: {@code --requests} (default 10000), {@code --concurrency} (2000), {@code --upstream-delay-ms} (200),
+ * {@code --platform-threads} (Tomcat's maximum worker threads, 200) and {@code --roster} (1000). The virtual mode is
+ * skipped on runtimes older than Java 21.
+ */
+public class ThreadingModeBenchmark {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = Arrays.stream(args)
+                .filter(arg -> arg.startsWith("--") && arg.contains("="))
+                .map(arg -> arg.substring(2).split("=", 2))
+                .collect(Collectors.toMap(option -> option[0], option -> option[1], (first, last) -> last));
+        int requests = Integer.parseInt(options.getOrDefault("requests", "10000"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "2000"));
+        long upstreamDelayMillis = Long.parseLong(options.getOrDefault("upstream-delay-ms", "200"));
+        int platformThreads = Integer.parseInt(options.getOrDefault("platform-threads", "200"));
+        int roster = Integer.parseInt(options.getOrDefault("roster", "1000"));
+
+        System.out.printf(
+                "requests=%d concurrency=%d upstream-delay=%dms platform-threads=%d roster=%d%n",
+                requests, concurrency, upstreamDelayMillis, platformThreads, roster);
+        System.out.println(EndpointStats.header());
+        for (boolean virtualThreads : new boolean[] {false, true}) {
+            String mode = virtualThreads ? "virtual" : "platform";
+            if (virtualThreads && Runtime.version().feature() < 21) {
+                System.out.println(mode + " skipped: needs a Java 21 runtime (-PjavaVersion=21)");
+                continue;
+            }
+            System.out.println(
+                    run(mode, virtualThreads, requests, concurrency, upstreamDelayMillis, platformThreads, roster));
+        }
+    }
+
+    private static String run(
+            String mode,
+            boolean virtualThreads,
+            int requests,
+            int concurrency,
+            long upstreamDelayMillis,
+            int platformThreads,
+            int roster)
+            throws InterruptedException {
+        Map<String, Object> serverProperties = Map.of(
+                "mock.employees.max", roster,
+                "mock.employees.seed", 42,
+                "mock.rate-limit.enabled", false,
+                "server.tomcat.threads.max", concurrency);
+        Map<String, Object> apiProperties = Map.of(
+                "spring.threads.virtual.enabled", virtualThreads,
+                "server.tomcat.threads.max", platformThreads,
+                "employee.by-id-cache.maximum-size", 0,
+                "employee.upstream.http.max-connections", concurrency,
+                "employee.upstream.http.pending-acquire-max-count", -1,
+                "employee.upstream.resilience.max-concurrent-calls", concurrency);
+        ExecutorService responseExecutor = Executors.newCachedThreadPool();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(responseExecutor)
+                .build();
+        try (EmbeddedEmployeeStack stack = EmbeddedEmployeeStack.start(
+                serverProperties,
+                apiProperties,
+                List.of(context -> context.getBeanFactory()
+                        .registerSingleton("upstreamDelay", upstreamDelay(upstreamDelayMillis))))) {
+            List<MockEmployee> employees = stack.initialRoster();
+            int warmup = Math.min(requests, 1000);
+            drive(httpClient, stack.apiBaseUri(), employees, warmup, concurrency, new EndpointStats());
+            EndpointStats stats = new EndpointStats();
+            double seconds = drive(httpClient, stack.apiBaseUri(), employees, requests, concurrency, stats);
+            return stats.formatRow(mode + " GET /{id}", seconds);
+        } finally {
+            responseExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Closed loop: a new request is sent as soon as one of the {@code concurrency} outstanding requests completes.
+     * Returns the seconds taken until all requests completed.
+     */
+    private static double drive(
+            HttpClient httpClient,
+            URI apiBaseUri,
+            List<MockEmployee> employees,
+            int requests,
+            int concurrency,
+            EndpointStats stats)
+            throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(42);
+        Semaphore outstanding = new Semaphore(concurrency);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            outstanding.acquire();
+            MockEmployee employee = employees.get(random.nextInt(employees.size()));
+            HttpRequest request = HttpRequest.newBuilder(apiBaseUri.resolve("/" + employee.getId()))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build();
+            long sentAt = System.nanoTime();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                long latency = System.nanoTime() - sentAt;
+                if (error != null) {
+                    stats.recordTransportError(latency);
+                } else {
+                    stats.recordResponse(response.statusCode(), latency);
+                }
+                outstanding.release();
+            });
+        }
+        outstanding.tryAcquire(concurrency, REQUEST_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        return (System.nanoTime() - startedAt) / 1e9;
+    }
+
+    private static Filter upstreamDelay(long delayMillis) {
+        return (request, response, chain) -> {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            chain.doFilter(request, response);
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+
+/**
+ * Seeded mock employee generator. Every employee is derived only from the seed and its index: the random source is
+ * re-seeded per index, so the same seed produces the same roster regardless of how the work is split across threads
+ * or whether it is generated at once or in batches. Chunks of {@code chunkSize} employees are generated in parallel,
+ * each with its own {@link Faker}.
+ */
+public class MockEmployeeGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+    private final int chunkSize;
+
+    public MockEmployeeGenerator(long seed, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.seed = seed;
+        this.chunkSize = chunkSize;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Generates the employees with indexes {@code from} (inclusive) to {@code to} (exclusive), in index order.
+     */
+    public List<MockEmployee> generate(int from, int to) {
+        final int chunks = (to - from + chunkSize - 1) / chunkSize;
+        return IntStream.range(0, Math.max(chunks, 0))
+                .parallel()
+                .mapToObj(chunk -> {
+                    final int chunkFrom = from + chunk * chunkSize;
+                    return generateChunk(chunkFrom, Math.min(chunkFrom + chunkSize, to));
+                })
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    private List<MockEmployee> generateChunk(int from, int to) {
+        final var random = new Random();
+        final var faker = new Faker(Locale.ENGLISH, random);
+        return IntStream.range(from, to)
+                .mapToObj(index -> {
+                    random.setSeed(mix(seed + GOLDEN_GAMMA * (index + 1L)));
+                    return MockEmployee.builder()
+                            .id(randomUuid(random))
+                            .name(faker.name().fullName())
+                            .salary(faker.number().numberBetween(30000, 500000))
+                            .age(faker.number().numberBetween(16, 70))
+                            .title(faker.job().title())
+                            .email(ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                                    faker.twitter().userName().toLowerCase()))
+                            .build();
+                })
+                .toList();
+    }
+
+    private static UUID randomUuid(Random random) {
+        final long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        final long leastSigBits = (random.nextLong() & ~(0x3L << 62)) | (0x2L << 62);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
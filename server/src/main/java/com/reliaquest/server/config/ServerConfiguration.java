@@ -1,19 +1,17 @@
 package com.reliaquest.server.config;
 
 import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import com.reliaquest.server.web.TokenBucketRequestLimitInterceptor;
+import java.security.SecureRandom;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Set;
+import java.util.random.RandomGenerator;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -25,35 +23,81 @@ public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private final boolean rateLimitEnabled;
+    private final TokenBucketRequestLimitInterceptor.Scope rateLimitScope;
+    private final Integer rateLimitCapacity;
+    private final Duration rateLimitRefillPeriod;
+
+    public ServerConfiguration(
+            @Value("${mock.rate-limit.enabled:true}") boolean rateLimitEnabled,
+            @Value("${mock.rate-limit.scope:GLOBAL}") TokenBucketRequestLimitInterceptor.Scope rateLimitScope,
+            @Value("${mock.rate-limit.capacity:#{null}}") Integer rateLimitCapacity,
+            @Value("${mock.rate-limit.refill-period:#{null}}") Duration rateLimitRefillPeriod) {
+        this.rateLimitEnabled = rateLimitEnabled;
+        this.rateLimitScope = rateLimitScope;
+        this.rateLimitCapacity = rateLimitCapacity;
+        this.rateLimitRefillPeriod = rateLimitRefillPeriod;
+    }
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * Serializes every employee property unless a request asks for a projection, see MockEmployee.fields.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer mockEmployeeFieldsFilter() {
+        return builder -> builder.filters(MockEmployee.fields(Set.of()));
+    }
+
+    /*
+     * Without mock.employees.seed every run generates a different roster; the seed is logged so a run can be
+     * reproduced.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public MockEmployeeGenerator mockEmployeeGenerator(
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.chunk-size:10000}") int chunkSize) {
+        return new MockEmployeeGenerator(seed != null ? seed : new SecureRandom().nextLong(), chunkSize);
     }
 
+    /*
+     * Seeds the MockEmployeeService store, which copies it; CRUD operations go through the store. With
+     * mock.employees.lazy-fill only the first chunk is generated here, see MockEmployeeBackgroundFill.
+     */
+    @Bean
+    public List<MockEmployee> mockEmployees(
+            MockEmployeeGenerator generator,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.lazy-fill:false}") boolean lazyFill) {
+        final long startedAt = System.nanoTime();
+        final int count = lazyFill ? Math.min(generator.getChunkSize(), maxEmployees) : maxEmployees;
+        final var mockEmployees = generator.generate(0, count);
+        log.info(
+                "Generated {} of {} mock employees with seed {} in {} ms",
+                count,
+                maxEmployees,
+                generator.getSeed(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return mockEmployees;
+    }
+
+    /*
+     * A capacity or refill period that is not configured is chosen at random, as the real service's limits are unknown.
+     */
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        if (!rateLimitEnabled) {
+            return;
+        }
+        final var random = RandomGenerator.getDefault();
+        final int capacity = rateLimitCapacity != null ? rateLimitCapacity : random.nextInt(5, 10);
+        final var refillPeriod =
+                rateLimitRefillPeriod != null ? rateLimitRefillPeriod : Duration.ofSeconds(random.nextInt(30, 90));
+        log.info("Rate limiting {} to {} requests per {}", rateLimitScope, capacity, refillPeriod);
+        registry.addInterceptor(
+                new TokenBucketRequestLimitInterceptor(rateLimitScope, capacity, refillPeriod, System::nanoTime));
     }
 }
@@ -6,17 +6,19 @@ import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
-import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -24,19 +26,41 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final int DEFAULT_PAGE_SIZE = 1000;
+
     private final MockEmployeeService mockEmployeeService;
 
+    /**
+     * Returns the whole roster, or one page of it once {@code limit} or {@code cursor} is given. The cursor for the
+     * next page is returned in the {@value #NEXT_CURSOR_HEADER} header, which is absent on the last page. With
+     * {@code fields}, e.g. {@code fields=id,employee_salary}, only those properties of each employee are written.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<MappingJacksonValue> getEmployees(
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "fields", required = false) Set<String> fields) {
+        if (limit == null && cursor == null) {
+            return ResponseEntity.ok(projected(Response.handledWith(mockEmployeeService.getMockEmployees()), fields));
+        }
+        final var page = mockEmployeeService.page(cursor, limit == null ? DEFAULT_PAGE_SIZE : limit);
+        final var response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(projected(Response.handledWith(page.employees()), fields));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid) {
+    public ResponseEntity<MappingJacksonValue> getEmployee(
+            @PathVariable("id") UUID uuid, @RequestParam(name = "fields", required = false) Set<String> fields) {
         return mockEmployeeService
                 .findById(uuid)
-                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
-                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
+                .map(employee -> ResponseEntity.ok(projected(Response.handledWith(employee), fields)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(projected(Response.handled(), fields)));
     }
 
     @PostMapping()
@@ -48,4 +72,12 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    private static MappingJacksonValue projected(Response<?> response, Set<String> fields) {
+        final var value = new MappingJacksonValue(response);
+        if (fields != null && !fields.isEmpty()) {
+            value.setFilters(MockEmployee.fields(fields));
+        }
+        return value;
+    }
 }
@@ -1,7 +1,12 @@
 package com.reliaquest.server.model;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import java.util.Set;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,8 +17,11 @@ import lombok.NonNull;
 @AllArgsConstructor
 @Builder(toBuilder = true)
 @JsonNaming(MockEmployee.PrefixNamingStrategy.class)
+@JsonFilter(MockEmployee.FIELDS_FILTER)
 public class MockEmployee {
 
+    public static final String FIELDS_FILTER = "mockEmployeeFields";
+
     private UUID id;
     private String name;
     private Integer salary;
@@ -32,6 +40,17 @@ public class MockEmployee {
                 .build();
     }
 
+    /**
+     * Filters that serialize only the given JSON properties of an employee, e.g. {@code id} and
+     * {@code employee_name}, or every property when {@code fields} is empty.
+     */
+    public static FilterProvider fields(@NonNull Set<String> fields) {
+        final var filters = new SimpleFilterProvider().setFailOnUnknownId(false);
+        return fields.isEmpty()
+                ? filters
+                : filters.addFilter(FIELDS_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(fields));
+    }
+
     static class PrefixNamingStrategy extends PropertyNamingStrategies.NamingBase {
 
         @Override
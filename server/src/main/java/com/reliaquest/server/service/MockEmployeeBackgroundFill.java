@@ -0,0 +1,64 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.config.MockEmployeeGenerator;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * With {@code mock.employees.lazy-fill=true} the server starts with only the first chunk of the roster; the rest is
+ * generated after startup and added to the store batch by batch, in index order, so the roster grows while requests
+ * are already being served. When no employees are created or deleted during the fill, the resulting roster is the
+ * same as an eagerly generated one for the same seed; employees created meanwhile are ordered, and paged, before the
+ * rest of the fill.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mock.employees.lazy-fill", havingValue = "true")
+public class MockEmployeeBackgroundFill {
+
+    private final MockEmployeeGenerator mockEmployeeGenerator;
+    private final MockEmployeeService mockEmployeeService;
+    private final Executor executor;
+    private final int maxEmployees;
+
+    public MockEmployeeBackgroundFill(
+            MockEmployeeGenerator mockEmployeeGenerator,
+            MockEmployeeService mockEmployeeService,
+            @Qualifier("applicationTaskExecutor") Executor executor,
+            @Value("${mock.employees.max:20}") int maxEmployees) {
+        this.mockEmployeeGenerator = mockEmployeeGenerator;
+        this.mockEmployeeService = mockEmployeeService;
+        this.executor = executor;
+        this.maxEmployees = maxEmployees;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillInBackground() {
+        executor.execute(this::fill);
+    }
+
+    private void fill() {
+        final long startedAt = System.nanoTime();
+        final int batchSize = mockEmployeeGenerator.getChunkSize() * Runtime.getRuntime().availableProcessors();
+        int from = Math.min(mockEmployeeGenerator.getChunkSize(), maxEmployees);
+        try {
+            while (from < maxEmployees) {
+                final int to = Math.min(from + batchSize, maxEmployees);
+                mockEmployeeGenerator.generate(from, to).forEach(mockEmployeeService::add);
+                from = to;
+            }
+            log.info(
+                    "Filled mock employee roster to {} employees in {} ms",
+                    maxEmployees,
+                    (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("Filling the mock employee roster stopped after {} employees", from, e);
+        }
+    }
+}
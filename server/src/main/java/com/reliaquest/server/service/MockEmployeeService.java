@@ -4,32 +4,81 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeePage;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import org.springframework.stereotype.Service;
 
+/**
+ * Thread-safe employee store. Employees are indexed by id and by lower-cased name, and kept in insertion order by a
+ * sequence number. {@link #getMockEmployees()} returns an immutable snapshot that is only rebuilt after a write.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MockEmployeeService {
 
+    public static final int MAX_PAGE_SIZE = 10_000;
+
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong version = new AtomicLong();
+    private final ConcurrentHashMap<UUID, StoredEmployee> employeesById = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, MockEmployee> employeesBySequence = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<String, List<UUID>> idsByName = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot = new Snapshot(-1, List.of());
+
+    public MockEmployeeService(Faker faker, List<MockEmployee> mockEmployees) {
+        this.faker = faker;
+        mockEmployees.forEach(this::add);
+    }
+
+    public List<MockEmployee> getMockEmployees() {
+        final var current = snapshot;
+        final long currentVersion = version.get();
+        if (current.version() == currentVersion) {
+            return current.employees();
+        }
+        final var employees = List.copyOf(employeesBySequence.values());
+        snapshot = new Snapshot(currentVersion, employees);
+        return employees;
+    }
+
+    /**
+     * Returns up to {@code limit} employees added after the one {@code cursor} points at, in insertion order. Cursors
+     * are sequence numbers, so creates and deletes between two pages neither shift nor repeat employees.
+     */
+    public MockEmployeePage page(String cursor, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        final long after = cursor == null ? 0 : parseCursor(cursor);
+        final int pageSize = Math.min(limit, MAX_PAGE_SIZE);
+        final var employees = new ArrayList<MockEmployee>(pageSize);
+        Long last = null;
+        for (var entry : employeesBySequence.tailMap(after, false).entrySet()) {
+            if (employees.size() == pageSize) {
+                break;
+            }
+            employees.add(entry.getValue());
+            last = entry.getKey();
+        }
+        final var nextCursor =
+                last != null && employeesBySequence.higherKey(last) != null ? Long.toString(last) : null;
+        return new MockEmployeePage(List.copyOf(employees), nextCursor);
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return Optional.ofNullable(employeesById.get(uuid)).map(StoredEmployee::employee);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -37,22 +86,78 @@ public class MockEmployeeService {
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /**
+     * Adds the employee as the newest entry, replacing any employee with the same id.
+     */
+    public void add(@NonNull MockEmployee mockEmployee) {
+        final var id = mockEmployee.getId();
+        final var stored = new StoredEmployee(sequence.incrementAndGet(), mockEmployee);
+        employeesBySequence.put(stored.sequence(), mockEmployee);
+        final var previous = employeesById.put(id, stored);
+        if (previous != null) {
+            employeesBySequence.remove(previous.sequence());
+            nameKey(previous.employee().getName()).ifPresent(name -> removeFromNameIndex(name, id));
+        }
+        nameKey(mockEmployee.getName())
+                .ifPresent(name -> idsByName.merge(name, List.of(id), MockEmployeeService::append));
+        version.incrementAndGet();
+    }
+
+    /**
+     * Deletes the oldest employee with the given name, ignoring case.
+     */
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
+        final var name = nameKey(input.getName());
+        final var ids = name.map(idsByName::get).orElse(List.of());
+        for (UUID id : ids) {
+            final var stored = employeesById.get(id);
+            if (stored != null && employeesById.remove(id, stored)) {
+                employeesBySequence.remove(stored.sequence());
+                removeFromNameIndex(name.get(), id);
+                version.incrementAndGet();
+                log.debug("Removed employee: {}", stored.employee());
+                return true;
+            }
         }
 
         return false;
     }
+
+    private void removeFromNameIndex(String name, UUID id) {
+        idsByName.computeIfPresent(name, (ignored, ids) -> {
+            final var remaining = new ArrayList<>(ids);
+            remaining.remove(id);
+            return remaining.isEmpty() ? null : List.copyOf(remaining);
+        });
+    }
+
+    private static List<UUID> append(List<UUID> ids, List<UUID> added) {
+        if (ids.containsAll(added)) {
+            return ids;
+        }
+        final var merged = new ArrayList<>(ids);
+        merged.addAll(added);
+        return List.copyOf(merged);
+    }
+
+    private static long parseCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    private static Optional<String> nameKey(String name) {
+        return Optional.ofNullable(name).map(value -> value.toLowerCase(Locale.ROOT));
+    }
+
+    private record StoredEmployee(long sequence, MockEmployee employee) {}
+
+    private record Snapshot(long version, List<MockEmployee> employees) {}
 }
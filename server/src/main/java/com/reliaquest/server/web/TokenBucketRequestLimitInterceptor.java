@@ -0,0 +1,124 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Token bucket of {@code capacity} requests that refills completely over {@code refillPeriod}, shared by all clients
+ * or kept per client address. Each bucket is a single {@link AtomicLong} holding the time at which it will be full
+ * again (the generic cell rate algorithm), updated with compare-and-set, so concurrent requests can neither overshoot
+ * the limit nor lose updates. Rejected requests consume no token.
+ * <p>
+ * A client bucket that has been idle long enough to be full again is indistinguishable from a new one, so once per
+ * refill period such buckets are evicted, which keeps the per-client map bounded by the clients active within about
+ * one period. An evicted bucket is first marked, so a request that still holds it fetches a fresh one instead of
+ * consuming a token nobody will see.
+ * <p>
+ * Every response carries {@value #REMAINING_HEADER}; a 429 also carries {@code Retry-After} with the seconds until
+ * the next token is available. With a fixed capacity, refill period and clock the limiter is fully deterministic.
+ */
+public class TokenBucketRequestLimitInterceptor implements HandlerInterceptor {
+
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private static final long EVICTED = Long.MIN_VALUE;
+
+    public enum Scope {
+        GLOBAL,
+        CLIENT
+    }
+
+    private final Scope scope;
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong globalBucket;
+    private final ConcurrentHashMap<String, AtomicLong> clientBuckets = new ConcurrentHashMap<>();
+    private final AtomicLong nextEvictionAt;
+
+    public TokenBucketRequestLimitInterceptor(
+            Scope scope, int capacity, Duration refillPeriod, LongSupplier nanoClock) {
+        if (capacity < 1 || refillPeriod.isNegative() || refillPeriod.isZero()) {
+            throw new IllegalArgumentException("capacity and refill period must be positive");
+        }
+        this.scope = scope;
+        this.emissionIntervalNanos = Math.max(refillPeriod.toNanos() / capacity, 1);
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.nanoClock = nanoClock;
+        this.globalBucket = new AtomicLong(nanoClock.getAsLong());
+        this.nextEvictionAt = new AtomicLong(nanoClock.getAsLong() + burstNanos);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final long now = nanoClock.getAsLong();
+        if (scope == Scope.CLIENT) {
+            evictIdleBuckets(now);
+        }
+        var bucket = bucketFor(request);
+        while (true) {
+            final long fullAt = bucket.get();
+            if (fullAt == EVICTED) {
+                bucket = bucketFor(request);
+                continue;
+            }
+            final long nextFullAt = Math.max(fullAt, now) + emissionIntervalNanos;
+            final long debt = nextFullAt - now;
+            if (debt > burstNanos) {
+                final long retryAfterSeconds = ceilDiv(debt - burstNanos, TimeUnit.SECONDS.toNanos(1));
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, retryAfterSeconds)));
+                response.setHeader(REMAINING_HEADER, "0");
+                return false;
+            }
+            if (bucket.compareAndSet(fullAt, nextFullAt)) {
+                response.setHeader(REMAINING_HEADER, Long.toString((burstNanos - debt) / emissionIntervalNanos));
+                return true;
+            }
+        }
+    }
+
+    private AtomicLong bucketFor(HttpServletRequest request) {
+        if (scope == Scope.GLOBAL) {
+            return globalBucket;
+        }
+        final var address = request.getRemoteAddr();
+        final var bucket = clientBuckets.get(address);
+        if (bucket != null && bucket.get() != EVICTED) {
+            return bucket;
+        }
+        return clientBuckets.compute(
+                address,
+                (ignored, current) ->
+                        current == null || current.get() == EVICTED ? new AtomicLong(nanoClock.getAsLong()) : current);
+    }
+
+    private void evictIdleBuckets(long now) {
+        final long evictionAt = nextEvictionAt.get();
+        if (now < evictionAt || !nextEvictionAt.compareAndSet(evictionAt, now + burstNanos)) {
+            return;
+        }
+        clientBuckets.forEach((address, bucket) -> {
+            final long fullAt = bucket.get();
+            if (fullAt <= now && bucket.compareAndSet(fullAt, EVICTED)) {
+                clientBuckets.remove(address, bucket);
+            }
+        });
+    }
+
+    int clientBucketCount() {
+        return clientBuckets.size();
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+}
@@ -0,0 +1,38 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeGeneratorTest {
+
+    private static final long SEED = 42;
+    private static final int ROSTER = 1000;
+
+    @Test
+    void sameSeedGeneratesTheSameRosterForAnyChunkSize() {
+        final var roster = new MockEmployeeGenerator(SEED, ROSTER).generate(0, ROSTER);
+
+        for (int chunkSize : new int[] {1, 7, 64, 999, 10_000}) {
+            Assertions.assertThat(new MockEmployeeGenerator(SEED, chunkSize).generate(0, ROSTER))
+                    .as("chunk size %d", chunkSize)
+                    .containsExactlyElementsOf(roster);
+        }
+    }
+
+    @Test
+    void sameSeedGeneratesTheSameRosterInBatches() {
+        final var generator = new MockEmployeeGenerator(SEED, 64);
+        final var batched = new ArrayList<MockEmployee>(generator.generate(0, 300));
+        batched.addAll(generator.generate(300, ROSTER));
+
+        Assertions.assertThat(batched).containsExactlyElementsOf(generator.generate(0, ROSTER));
+    }
+
+    @Test
+    void differentSeedsGenerateDifferentRosters() {
+        Assertions.assertThat(new MockEmployeeGenerator(SEED, 64).generate(0, 10))
+                .doesNotContainAnyElementsOf(new MockEmployeeGenerator(SEED + 1, 64).generate(0, 10));
+    }
+}
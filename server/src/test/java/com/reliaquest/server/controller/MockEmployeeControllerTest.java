@@ -0,0 +1,123 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.service.MockEmployeeService;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+@SpringBootTest(properties = {"mock.employees.max=1001", "mock.employees.seed=42", "mock.rate-limit.enabled=false"})
+@AutoConfigureMockMvc
+class MockEmployeeControllerTest {
+
+    private static final int ROSTER_SIZE = 1001;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MockEmployeeService mockEmployeeService;
+
+    @Test
+    void listsEveryPropertyWithoutFields() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/employee"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.length()").value(ROSTER_SIZE))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].id").exists())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].employee_name").exists())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].employee_salary").exists())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].employee_age").exists())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].employee_title").exists())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].employee_email").exists())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("Successfully processed request."));
+    }
+
+    @Test
+    void listsOnlyTheRequestedFields() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/employee").param("fields", "id,employee_name"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.length()").value(ROSTER_SIZE))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].id").exists())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].employee_name").exists())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].employee_salary").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].employee_email").doesNotExist());
+    }
+
+    @Test
+    void getsOnlyTheRequestedFieldsOfAnEmployee() throws Exception {
+        final var employee = mockEmployeeService.getMockEmployees().get(0);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/employee/{id}", employee.getId())
+                        .param("fields", "id,employee_name"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.id").value(employee.getId().toString()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.employee_name").value(employee.getName()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.employee_salary").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.employee_age").doesNotExist());
+    }
+
+    @Test
+    void getsEveryPropertyOfAnEmployeeWithoutFields() throws Exception {
+        final var employee = mockEmployeeService.getMockEmployees().get(0);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/employee/{id}", employee.getId()))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.employee_salary").value(employee.getSalary()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.employee_email").value(employee.getEmail()));
+    }
+
+    @Test
+    void answersNotFoundForAnUnknownIdWithFields() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/employee/{id}", UUID.randomUUID())
+                        .param("fields", "id,employee_name"))
+                .andExpect(MockMvcResultMatchers.status().isNotFound())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data").doesNotExist());
+    }
+
+    @Test
+    void returnsTheNextCursorOnEveryPageButTheLast() throws Exception {
+        final var firstPage = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/employee").param("limit", "1000"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.length()").value(1000))
+                .andExpect(MockMvcResultMatchers.header().exists(MockEmployeeController.NEXT_CURSOR_HEADER))
+                .andReturn()
+                .getResponse();
+        final var cursor = firstPage.getHeader(MockEmployeeController.NEXT_CURSOR_HEADER);
+
+        final var lastEmployee = mockEmployeeService.getMockEmployees().get(ROSTER_SIZE - 1);
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/employee")
+                        .param("limit", "1000")
+                        .param("cursor", cursor))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].id").value(lastEmployee.getId().toString()))
+                .andExpect(MockMvcResultMatchers.header().doesNotExist(MockEmployeeController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void defaultsThePageSizeWhenOnlyACursorIsGiven() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/employee").param("cursor", "0"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.length()").value(1000))
+                .andExpect(MockMvcResultMatchers.header().exists(MockEmployeeController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void rejectsAMalformedCursorWithBadRequest() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/employee").param("cursor", "abc"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("Failed to process request."))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error").value("Invalid cursor: abc"));
+    }
+
+    @Test
+    void rejectsANonPositiveLimitWithBadRequest() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/employee").param("limit", "0"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error").value("limit must be positive"));
+    }
+}
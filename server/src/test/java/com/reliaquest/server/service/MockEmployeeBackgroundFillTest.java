@@ -0,0 +1,38 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.config.MockEmployeeGenerator;
+import java.time.Duration;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(
+        properties = {
+            "mock.employees.max=" + MockEmployeeBackgroundFillTest.MAX_EMPLOYEES,
+            "mock.employees.chunk-size=10",
+            "mock.employees.seed=42",
+            "mock.employees.lazy-fill=true",
+            "mock.rate-limit.enabled=false"
+        })
+class MockEmployeeBackgroundFillTest {
+
+    static final int MAX_EMPLOYEES = 2000;
+
+    @Autowired
+    private MockEmployeeGenerator mockEmployeeGenerator;
+
+    @Autowired
+    private MockEmployeeService mockEmployeeService;
+
+    @Test
+    void fillsTheRosterToTheSameEmployeesAsEagerGeneration() throws InterruptedException {
+        final long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (mockEmployeeService.getMockEmployees().size() < MAX_EMPLOYEES && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        Assertions.assertThat(mockEmployeeService.getMockEmployees())
+                .containsExactlyElementsOf(mockEmployeeGenerator.generate(0, MAX_EMPLOYEES));
+    }
+}
@@ -0,0 +1,200 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import net.datafaker.Faker;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeServiceTest {
+
+    private static final int THREADS = 8;
+    private static final int CREATES_PER_THREAD = 500;
+    private static final int NAMES = 20;
+
+    private MockEmployeeService mockEmployeeService;
+
+    @BeforeEach
+    void setUp() {
+        mockEmployeeService = new MockEmployeeService(new Faker(), List.of());
+    }
+
+    @Test
+    void concurrentCreatesAndDeletesLeaveAllIndexesConsistent() throws Exception {
+        final var executor = Executors.newFixedThreadPool(THREADS);
+        final var start = new CountDownLatch(1);
+        final var deletes = new ArrayList<Future<Integer>>();
+        try {
+            for (int thread = 0; thread < THREADS; thread++) {
+                deletes.add(executor.submit(() -> {
+                    start.await();
+                    int deleted = 0;
+                    for (int i = 0; i < CREATES_PER_THREAD; i++) {
+                        mockEmployeeService.create(input(name(i)));
+                        if (i % 2 == 1) {
+                            final var upperCased = name(i - 1).toUpperCase(Locale.ROOT);
+                            deleted += mockEmployeeService.delete(deleteInput(upperCased)) ? 1 : 0;
+                        }
+                    }
+                    return deleted;
+                }));
+            }
+            start.countDown();
+            int deleted = 0;
+            for (var future : deletes) {
+                deleted += future.get(30, TimeUnit.SECONDS);
+            }
+
+            final var remaining = mockEmployeeService.getMockEmployees();
+            Assertions.assertThat(remaining).hasSize(THREADS * CREATES_PER_THREAD - deleted);
+            Assertions.assertThat(remaining.stream().map(MockEmployee::getId).distinct()).hasSameSizeAs(remaining);
+            Assertions.assertThat(remaining)
+                    .allSatisfy(employee -> Assertions.assertThat(mockEmployeeService.findById(employee.getId()))
+                            .contains(employee));
+            final var page = mockEmployeeService.page(null, MockEmployeeService.MAX_PAGE_SIZE);
+            Assertions.assertThat(page.employees()).containsExactlyElementsOf(remaining);
+
+            final var remainingByName =
+                    remaining.stream().collect(Collectors.groupingBy(MockEmployee::getName, Collectors.counting()));
+            for (int i = 0; i < NAMES; i++) {
+                long deletedByName = 0;
+                while (mockEmployeeService.delete(deleteInput(name(i)))) {
+                    deletedByName++;
+                }
+                Assertions.assertThat(deletedByName).isEqualTo(remainingByName.getOrDefault(name(i), 0L));
+            }
+            Assertions.assertThat(mockEmployeeService.getMockEmployees()).isEmpty();
+            Assertions.assertThat(remaining)
+                    .allSatisfy(employee -> Assertions.assertThat(mockEmployeeService.findById(employee.getId()))
+                            .isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void snapshotIsRebuiltOnlyAfterAWrite() {
+        final var first = mockEmployeeService.create(input("Jane Doe"));
+
+        final var snapshot = mockEmployeeService.getMockEmployees();
+        Assertions.assertThat(mockEmployeeService.getMockEmployees()).isSameAs(snapshot);
+        Assertions.assertThat(mockEmployeeService.delete(deleteInput("John Doe"))).isFalse();
+        Assertions.assertThat(mockEmployeeService.getMockEmployees()).isSameAs(snapshot);
+
+        final var second = mockEmployeeService.create(input("John Doe"));
+        final var afterCreate = mockEmployeeService.getMockEmployees();
+        Assertions.assertThat(afterCreate).isNotSameAs(snapshot).containsExactly(first, second);
+        Assertions.assertThat(snapshot).containsExactly(first);
+        Assertions.assertThat(mockEmployeeService.getMockEmployees()).isSameAs(afterCreate);
+
+        Assertions.assertThat(mockEmployeeService.delete(deleteInput("jane doe"))).isTrue();
+        Assertions.assertThat(mockEmployeeService.getMockEmployees())
+                .isNotSameAs(afterCreate)
+                .containsExactly(second);
+    }
+
+    @Test
+    void addReplacesAnEmployeeWithTheSameId() {
+        final var original = mockEmployeeService.create(input("Jane Doe"));
+        final var renamed = original.toBuilder().name("Jane Roe").build();
+
+        mockEmployeeService.add(renamed);
+
+        Assertions.assertThat(mockEmployeeService.getMockEmployees()).containsExactly(renamed);
+        Assertions.assertThat(mockEmployeeService.findById(original.getId())).contains(renamed);
+        Assertions.assertThat(mockEmployeeService.delete(deleteInput("Jane Doe"))).isFalse();
+        Assertions.assertThat(mockEmployeeService.delete(deleteInput("Jane Roe"))).isTrue();
+        Assertions.assertThat(mockEmployeeService.findById(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void pagesNeitherSkipNorRepeatEmployeesWhenTheRosterChangesBetweenPages() {
+        final var initial = new ArrayList<MockEmployee>();
+        for (int i = 0; i < 10; i++) {
+            initial.add(mockEmployeeService.create(input("Employee " + i)));
+        }
+
+        final var firstPage = mockEmployeeService.page(null, 4);
+        mockEmployeeService.delete(deleteInput("Employee 0"));
+        mockEmployeeService.delete(deleteInput("Employee 5"));
+        final var created = mockEmployeeService.create(input("Employee 10"));
+        final var secondPage = mockEmployeeService.page(firstPage.nextCursor(), 4);
+        final var lastPage = mockEmployeeService.page(secondPage.nextCursor(), 4);
+
+        Assertions.assertThat(firstPage.employees()).containsExactlyElementsOf(initial.subList(0, 4));
+        Assertions.assertThat(secondPage.employees())
+                .containsExactly(initial.get(4), initial.get(6), initial.get(7), initial.get(8));
+        Assertions.assertThat(lastPage.employees()).containsExactly(initial.get(9), created);
+        Assertions.assertThat(lastPage.nextCursor()).isNull();
+    }
+
+    @Test
+    void cursorOfADeletedOrTrailingEmployeeContinuesAfterIt() {
+        final var first = mockEmployeeService.create(input("Jane Doe"));
+        final var second = mockEmployeeService.create(input("John Doe"));
+        final var cursor = mockEmployeeService.page(null, 1).nextCursor();
+
+        mockEmployeeService.delete(deleteInput("Jane Doe"));
+
+        Assertions.assertThat(mockEmployeeService.page(cursor, 10).employees()).containsExactly(second);
+        Assertions.assertThat(mockEmployeeService.page("1000", 10).employees()).isEmpty();
+        Assertions.assertThat(mockEmployeeService.page("1000", 10).nextCursor()).isNull();
+        Assertions.assertThat(mockEmployeeService.findById(first.getId())).isEmpty();
+    }
+
+    @Test
+    void rejectsMalformedCursorsAndNonPositiveLimits() {
+        Assertions.assertThatThrownBy(() -> mockEmployeeService.page("not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not-a-cursor");
+        Assertions.assertThatThrownBy(() -> mockEmployeeService.page(null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void capsThePageSizeAtTheMaximum() {
+        for (int i = 0; i <= MockEmployeeService.MAX_PAGE_SIZE; i++) {
+            mockEmployeeService.add(MockEmployee.builder()
+                    .id(new UUID(0, i))
+                    .name("Employee " + i)
+                    .build());
+        }
+
+        final var firstPage = mockEmployeeService.page(null, Integer.MAX_VALUE);
+        final var lastPage = mockEmployeeService.page(firstPage.nextCursor(), Integer.MAX_VALUE);
+
+        Assertions.assertThat(firstPage.employees()).hasSize(MockEmployeeService.MAX_PAGE_SIZE);
+        Assertions.assertThat(lastPage.employees()).hasSize(1);
+        Assertions.assertThat(lastPage.nextCursor()).isNull();
+    }
+
+    private static String name(int i) {
+        return "Employee " + (i % NAMES);
+    }
+
+    private static CreateMockEmployeeInput input(String name) {
+        final var input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(1000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+
+    private static DeleteMockEmployeeInput deleteInput(String name) {
+        final var input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return input;
+    }
+}
@@ -0,0 +1,145 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.web.TokenBucketRequestLimitInterceptor.Scope;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class TokenBucketRequestLimitInterceptorTest {
+
+    private final AtomicLong nanos = new AtomicLong(TimeUnit.DAYS.toNanos(1));
+
+    @Test
+    void admitsABurstOfCapacityRequestsThenRejects() {
+        final var limiter = limiter(Scope.GLOBAL, 3, Duration.ofSeconds(3));
+
+        Assertions.assertThat(admittedRemaining(limiter, "10.0.0.1")).isEqualTo("2");
+        Assertions.assertThat(admittedRemaining(limiter, "10.0.0.1")).isEqualTo("1");
+        Assertions.assertThat(admittedRemaining(limiter, "10.0.0.2")).isEqualTo("0");
+
+        final var rejected = new MockHttpServletResponse();
+        Assertions.assertThat(limiter.preHandle(request("10.0.0.1"), rejected, null)).isFalse();
+        Assertions.assertThat(rejected.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        Assertions.assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        Assertions.assertThat(rejected.getHeader(TokenBucketRequestLimitInterceptor.REMAINING_HEADER)).isEqualTo("0");
+    }
+
+    @Test
+    void refillsOneTokenPerEmissionInterval() {
+        final var limiter = limiter(Scope.GLOBAL, 3, Duration.ofSeconds(3));
+        for (int i = 0; i < 3; i++) {
+            admittedRemaining(limiter, "10.0.0.1");
+        }
+
+        advance(Duration.ofMillis(999));
+        Assertions.assertThat(retryAfter(limiter, "10.0.0.1")).isEqualTo("1");
+        advance(Duration.ofMillis(1));
+        Assertions.assertThat(admittedRemaining(limiter, "10.0.0.1")).isEqualTo("0");
+        Assertions.assertThat(retryAfter(limiter, "10.0.0.1")).isEqualTo("1");
+
+        advance(Duration.ofSeconds(10));
+        Assertions.assertThat(admittedRemaining(limiter, "10.0.0.1")).isEqualTo("2");
+    }
+
+    @Test
+    void retryAfterRoundsTheWaitForTheNextTokenUpToWholeSeconds() {
+        final var limiter = limiter(Scope.GLOBAL, 1, Duration.ofSeconds(10));
+        admittedRemaining(limiter, "10.0.0.1");
+
+        Assertions.assertThat(retryAfter(limiter, "10.0.0.1")).isEqualTo("10");
+        advance(Duration.ofMillis(2500));
+        Assertions.assertThat(retryAfter(limiter, "10.0.0.1")).isEqualTo("8");
+        advance(Duration.ofMillis(7499));
+        Assertions.assertThat(retryAfter(limiter, "10.0.0.1")).isEqualTo("1");
+    }
+
+    @Test
+    void concurrentRequestsAdmitExactlyTheCapacity() throws Exception {
+        final var limiter = limiter(Scope.GLOBAL, 100, Duration.ofHours(1));
+        final var executor = Executors.newFixedThreadPool(8);
+        final var start = new CountDownLatch(1);
+        final var results = new ArrayList<Future<Integer>>();
+        try {
+            for (int thread = 0; thread < 8; thread++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int admitted = 0;
+                    for (int i = 0; i < 50; i++) {
+                        admitted += limiter.preHandle(request("10.0.0.1"), new MockHttpServletResponse(), null) ? 1 : 0;
+                    }
+                    return admitted;
+                }));
+            }
+            start.countDown();
+            int admitted = 0;
+            for (var result : results) {
+                admitted += result.get(30, TimeUnit.SECONDS);
+            }
+
+            Assertions.assertThat(admitted).isEqualTo(100);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void keepsOneBucketPerClientAndEvictsIdleOnes() {
+        final var limiter = limiter(Scope.CLIENT, 2, Duration.ofSeconds(2));
+        Assertions.assertThat(admittedRemaining(limiter, "10.0.0.1")).isEqualTo("1");
+        Assertions.assertThat(admittedRemaining(limiter, "10.0.0.2")).isEqualTo("1");
+
+        advance(Duration.ofMillis(1500));
+        Assertions.assertThat(admittedRemaining(limiter, "10.0.0.2")).isEqualTo("1");
+        Assertions.assertThat(admittedRemaining(limiter, "10.0.0.2")).isEqualTo("0");
+        advance(Duration.ofMillis(500));
+        Assertions.assertThat(admittedRemaining(limiter, "10.0.0.3")).isEqualTo("1");
+
+        Assertions.assertThat(limiter.clientBucketCount()).isEqualTo(2);
+        Assertions.assertThat(retryAfter(limiter, "10.0.0.2")).isEqualTo("1");
+        Assertions.assertThat(admittedRemaining(limiter, "10.0.0.1")).isEqualTo("1");
+    }
+
+    @Test
+    void rejectsNonPositiveCapacityAndRefillPeriod() {
+        Assertions.assertThatThrownBy(() -> limiter(Scope.GLOBAL, 0, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThatThrownBy(() -> limiter(Scope.GLOBAL, 1, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private TokenBucketRequestLimitInterceptor limiter(Scope scope, int capacity, Duration refillPeriod) {
+        return new TokenBucketRequestLimitInterceptor(scope, capacity, refillPeriod, nanos::get);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static String admittedRemaining(TokenBucketRequestLimitInterceptor limiter, String address) {
+        final var response = new MockHttpServletResponse();
+        Assertions.assertThat(limiter.preHandle(request(address), response, null)).isTrue();
+        return response.getHeader(TokenBucketRequestLimitInterceptor.REMAINING_HEADER);
+    }
+
+    private static String retryAfter(TokenBucketRequestLimitInterceptor limiter, String address) {
+        final var response = new MockHttpServletResponse();
+        Assertions.assertThat(limiter.preHandle(request(address), response, null)).isFalse();
+        return response.getHeader(HttpHeaders.RETRY_AFTER);
+    }
+
+    private static MockHttpServletRequest request(String address) {
+        final var request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        request.setRemoteAddr(address);
+        return request;
+    }
+}